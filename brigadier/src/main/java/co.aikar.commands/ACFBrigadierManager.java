@@ -10,12 +10,23 @@ import com.mojang.brigadier.arguments.StringArgumentType;
 import com.mojang.brigadier.builder.LiteralArgumentBuilder;
 import com.mojang.brigadier.builder.RequiredArgumentBuilder;
 import com.mojang.brigadier.suggestion.SuggestionProvider;
+import com.mojang.brigadier.tree.ArgumentCommandNode;
 import com.mojang.brigadier.tree.CommandNode;
 import com.mojang.brigadier.tree.LiteralCommandNode;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.function.BiPredicate;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 /**
@@ -31,7 +42,15 @@ public class ACFBrigadierManager<S> {
 
     protected final CommandManager<?, ?, ?, ?, ?, ?> manager;
 
+    /**
+     * The most choices registered as literal nodes, as each is sent to the client as its own node.
+     */
+    private static final int MAX_LITERALS = 64;
+
     private final Map<Class<?>, ArgumentType<?>> arguments = new HashMap<>();
+    private Function<S, CommandIssuer> suggestionIssuers;
+    private Executor suggestionAsyncExecutor;
+    private Executor suggestionSyncExecutor;
 
     /**
      * Constructs a new brigadier manager, utilizing the currently active command manager
@@ -43,7 +62,6 @@ public class ACFBrigadierManager<S> {
 
         this.manager = manager;
 
-        // TODO support stuff like min max via brigadier?
         registerArgument(String.class, StringArgumentType.word());
         registerArgument(float.class, FloatArgumentType.floatArg());
         registerArgument(Float.class, FloatArgumentType.floatArg());
@@ -58,6 +76,20 @@ public class ACFBrigadierManager<S> {
         registerArgument(Long.class, IntegerArgumentType.integer());
     }
 
+    /**
+     * Makes argument nodes suggest the ACF completions of their own parameter, instead of using the suggestion provider
+     * of the platform for the whole input.
+     *
+     * @param issuers       Gets the command issuer of a brigadier source.
+     * @param asyncExecutor Where completions are computed.
+     * @param syncExecutor  Where completions that require the main thread are computed.
+     */
+    void useNativeSuggestions(Function<S, CommandIssuer> issuers, Executor asyncExecutor, Executor syncExecutor) {
+        this.suggestionIssuers = issuers;
+        this.suggestionAsyncExecutor = asyncExecutor;
+        this.suggestionSyncExecutor = syncExecutor;
+    }
+
     <T> void registerArgument(Class<T> clazz, ArgumentType<?> type) {
         arguments.put(clazz, type);
     }
@@ -67,10 +99,78 @@ public class ACFBrigadierManager<S> {
             //noinspection unchecked
             return (ArgumentType<Object>) (ArgumentType<?>) StringArgumentType.greedyString();
         }
+        ArgumentType<?> bounded = getBoundedArgumentType(param);
+        if (bounded != null) {
+            //noinspection unchecked
+            return (ArgumentType<Object>) bounded;
+        }
         //noinspection unchecked
         return (ArgumentType<Object>) arguments.getOrDefault(param.getType(), StringArgumentType.string());
     }
 
+    /**
+     * @return A numeric argument type limited to the min and max flags of the parameter, so the client rejects
+     * values out of range itself, or null if the parameter has no limits or is not numeric.
+     */
+    private ArgumentType<?> getBoundedArgumentType(CommandParameter param) {
+        double min = param.getMinValue(Double.NEGATIVE_INFINITY);
+        double max = param.getMaxValue(Double.POSITIVE_INFINITY);
+        if (min == Double.NEGATIVE_INFINITY && max == Double.POSITIVE_INFINITY) {
+            return null;
+        }
+        Class<?> type = param.getType();
+        if (type == int.class || type == Integer.class || type == long.class || type == Long.class) {
+            // Long uses integer on the client too, see above
+            return IntegerArgumentType.integer(
+                    (int) Math.max(Math.ceil(min), Integer.MIN_VALUE),
+                    (int) Math.min(Math.floor(max), Integer.MAX_VALUE));
+        } else if (type == double.class || type == Double.class) {
+            return DoubleArgumentType.doubleArg(Math.max(min, -Double.MAX_VALUE), Math.min(max, Double.MAX_VALUE));
+        } else if (type == float.class || type == Float.class) {
+            return FloatArgumentType.floatArg((float) Math.max(min, -Float.MAX_VALUE), (float) Math.min(max, Float.MAX_VALUE));
+        }
+        return null;
+    }
+
+    /**
+     * @return The fixed choices of the parameter from its {@link co.aikar.commands.annotation.Values} or enum type,
+     * to register as literal nodes, or null if they are not known up front or too many for the client.
+     * Other spellings are still accepted, so the literals are always registered next to an argument node.
+     */
+    List<String> getLiterals(CommandParameter param) {
+        if (param.consumesRest) {
+            return null;
+        }
+        Collection<String> choices;
+        String[] values = param.getValues();
+        if (values != null) {
+            for (String value : values) {
+                // Completion ids are only known at runtime
+                if (value.startsWith("@") || "*".equals(value)) {
+                    return null;
+                }
+            }
+            choices = Arrays.asList(values);
+        } else if (param.getType().isEnum() && param.getResolver() == manager.getCommandContexts().getResolver(Enum.class)) {
+            //noinspection unchecked
+            choices = EnumLookup.of((Class<? extends Enum<?>>) param.getType()).getNames();
+        } else {
+            return null;
+        }
+        if (choices.isEmpty() || choices.size() > MAX_LITERALS) {
+            return null;
+        }
+        Set<String> literals = new LinkedHashSet<>();
+        for (String choice : choices) {
+            if (choice.isEmpty() || choice.indexOf(' ') != -1) {
+                return null;
+            }
+            // Values are matched ignoring case, so only the lower case spelling is offered to the client
+            literals.add(choice.toLowerCase(Locale.ENGLISH));
+        }
+        return new ArrayList<>(literals);
+    }
+
     /**
      * Registers the given RootCommand into the given brigadir command node, utilizing the provided suggestion provider, executor and permission predicate.<br>
      * <p>
@@ -83,7 +183,19 @@ public class ACFBrigadierManager<S> {
                                    BiPredicate<RootCommand, S> permCheckerRoot,
                                    BiPredicate<RegisteredCommand, S> permCheckerSub) {
         // recreate root to get rid of bukkits default arg
-        LiteralArgumentBuilder<S> rootBuilder = LiteralArgumentBuilder.<S>literal(root.getLiteral())
+        return register(rootCommand, root.getLiteral(), suggestionProvider, executor, permCheckerRoot, permCheckerSub);
+    }
+
+    /**
+     * Builds a new brigadier command node with the given literal for the given RootCommand, utilizing the provided suggestion provider, executor and permission predicate.
+     */
+    LiteralCommandNode<S> register(RootCommand rootCommand,
+                                   String literal,
+                                   SuggestionProvider<S> suggestionProvider,
+                                   Command<S> executor,
+                                   BiPredicate<RootCommand, S> permCheckerRoot,
+                                   BiPredicate<RegisteredCommand, S> permCheckerSub) {
+        LiteralArgumentBuilder<S> rootBuilder = LiteralArgumentBuilder.<S>literal(literal)
                 .requires(sender -> permCheckerRoot.test(rootCommand, sender));
 
         RegisteredCommand defaultCommand = rootCommand.getDefaultRegisteredCommand();
@@ -93,7 +205,7 @@ public class ACFBrigadierManager<S> {
             }
         }
 
-        root = rootBuilder.build();
+        LiteralCommandNode<S> root = rootBuilder.build();
         boolean isForwardingCommand = rootCommand.getDefCommand() instanceof ForwardingCommand;
 
         if (defaultCommand != null) {
@@ -145,36 +257,119 @@ public class ACFBrigadierManager<S> {
             registerParameters(subCommand.getValue(), subCommandNode, suggestionProvider, executor, permCheckerSub);
 
             if (!isForwardingCommand) {
-                currentParent.addChild(subCommandNode);
+                addChild(currentParent, subCommandNode);
             }
         }
 
         return root;
     }
 
+    /**
+     * Creates a node for another label of a command, which redirects to the node already built for it instead of
+     * building the same nodes again.
+     *
+     * @param literal The other label.
+     * @param target  The node built for the command.
+     * @return The new node, without any children of its own.
+     */
+    LiteralCommandNode<S> redirect(String literal, LiteralCommandNode<S> target) {
+        LiteralArgumentBuilder<S> builder = LiteralArgumentBuilder.<S>literal(literal)
+                .requires(target.getRequirement())
+                .redirect(target);
+        if (target.getCommand() != null) {
+            builder.executes(target.getCommand());
+        }
+        return builder.build();
+    }
+
     void registerParameters(RegisteredCommand command,
                             CommandNode<S> node,
                             SuggestionProvider<S> suggestionProvider,
                             Command<S> executor,
                             BiPredicate<RegisteredCommand, S> permChecker) {
+        List<CommandParameter> params = new ArrayList<>();
         for (int i = 0; i < command.parameters.length; i++) {
             CommandParameter param = command.parameters[i];
             CommandParameter nextParam = param.getNextParam();
             if (param.isCommandIssuer() || (param.canExecuteWithoutInput() && nextParam != null && !nextParam.canExecuteWithoutInput())) {
                 continue;
             }
-            RequiredArgumentBuilder<S, Object> builder = RequiredArgumentBuilder
-                    .<S, Object>argument(param.getName(), getArgumentTypeByClazz(param))
-                    .suggests(suggestionProvider)
-                    .requires(sender -> permChecker.test(command, sender));
+            params.add(param);
+        }
 
-            if (nextParam == null || nextParam.canExecuteWithoutInput()) {
-                builder.executes(executor);
+        // Built from the last parameter, as every choice of a parameter with literals leads to the same nodes after it
+        Predicate<S> requirement = sender -> permChecker.test(command, sender);
+        List<CommandNode<S>> next = Collections.emptyList();
+        for (int i = params.size() - 1; i >= 0; i--) {
+            CommandParameter param = params.get(i);
+            CommandParameter nextParam = param.getNextParam();
+            boolean executes = nextParam == null || nextParam.canExecuteWithoutInput();
+            List<CommandNode<S>> current = new ArrayList<>();
+            List<String> literals = getLiterals(param);
+            if (literals != null) {
+                for (String literal : literals) {
+                    LiteralArgumentBuilder<S> builder = LiteralArgumentBuilder.<S>literal(literal).requires(requirement);
+                    if (executes) {
+                        builder.executes(executor);
+                    }
+                    current.add(builder.build());
+                }
+                // Literals match exactly, while ACF matches values ignoring case and enums by their simplified name,
+                // so any other spelling falls through to a plain argument. The literals already suggest the choices.
+                RequiredArgumentBuilder<S, Object> fallback = RequiredArgumentBuilder
+                        .<S, Object>argument(param.getName(), getArgumentTypeByClazz(param))
+                        .requires(requirement);
+                if (executes) {
+                    fallback.executes(executor);
+                }
+                current.add(fallback.build());
+            } else {
+                SuggestionProvider<S> suggestions = suggestionIssuers == null ? suggestionProvider
+                        : new ACFBrigadierSuggestionProvider<>(command, param, i, suggestionIssuers, suggestionAsyncExecutor, suggestionSyncExecutor);
+                RequiredArgumentBuilder<S, Object> builder = RequiredArgumentBuilder
+                        .<S, Object>argument(param.getName(), getArgumentTypeByClazz(param))
+                        .suggests(suggestions)
+                        .requires(requirement);
+                if (executes) {
+                    builder.executes(executor);
+                }
+                current.add(builder.build());
+            }
+            for (CommandNode<S> paramNode : current) {
+                for (CommandNode<S> child : next) {
+                    paramNode.addChild(child);
+                }
             }
+            next = current;
+        }
+        for (CommandNode<S> child : next) {
+            addChild(node, child);
+        }
+    }
 
-            CommandNode<S> subSubCommand = builder.build();
-            node.addChild(subSubCommand);
-            node = subSubCommand;
+    /**
+     * Adds a child like {@link CommandNode#addChild(CommandNode)}, which merges it into an existing child of the same name.
+     * The existing argument nodes keep their suggestion provider, so it takes over the commands of the merged ones first.
+     */
+    private void addChild(CommandNode<S> parent, CommandNode<S> child) {
+        mergeSuggestions(parent.getChild(child.getName()), child);
+        parent.addChild(child);
+    }
+
+    private void mergeSuggestions(CommandNode<S> existing, CommandNode<S> child) {
+        if (existing == null || existing == child) {
+            return;
+        }
+        if (existing instanceof ArgumentCommandNode && child instanceof ArgumentCommandNode) {
+            SuggestionProvider<S> existingSuggestions = ((ArgumentCommandNode<S, ?>) existing).getCustomSuggestions();
+            SuggestionProvider<S> childSuggestions = ((ArgumentCommandNode<S, ?>) child).getCustomSuggestions();
+            if (existingSuggestions instanceof ACFBrigadierSuggestionProvider && childSuggestions instanceof ACFBrigadierSuggestionProvider) {
+                //noinspection unchecked
+                ((ACFBrigadierSuggestionProvider<S>) existingSuggestions).merge((ACFBrigadierSuggestionProvider<S>) childSuggestions);
+            }
+        }
+        for (CommandNode<S> grandChild : child.getChildren()) {
+            mergeSuggestions(existing.getChild(grandChild.getName()), grandChild);
         }
     }
 
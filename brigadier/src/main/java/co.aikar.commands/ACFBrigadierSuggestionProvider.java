@@ -0,0 +1,151 @@
+package co.aikar.commands;
+
+import com.mojang.brigadier.LiteralMessage;
+import com.mojang.brigadier.Message;
+import com.mojang.brigadier.context.CommandContext;
+import com.mojang.brigadier.suggestion.SuggestionProvider;
+import com.mojang.brigadier.suggestion.Suggestions;
+import com.mojang.brigadier.suggestion.SuggestionsBuilder;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+
+/**
+ * Suggests the ACF completions of a single parameter straight from its brigadier node, instead of handing the whole
+ * input to the platform's tab completion to be split and routed again.
+ * <p>
+ * Overloads with a parameter of the same name at the same place share a single node, so one provider completes all of
+ * them, see {@link #merge(ACFBrigadierSuggestionProvider)}.
+ * <p>
+ * Completions are computed on the async executor, and on the sync executor when a completion handler requires the main thread.
+ *
+ * @param <S>
+ * @deprecated Unstable API
+ */
+@Deprecated
+@UnstableAPI
+class ACFBrigadierSuggestionProvider<S> implements SuggestionProvider<S> {
+
+    private final List<Target> targets = new CopyOnWriteArrayList<>();
+    private final boolean consumesRest;
+    private final int argIndex;
+    private final Function<S, CommandIssuer> issuers;
+    private final Executor asyncExecutor;
+    private final Executor syncExecutor;
+
+    /**
+     * @param argIndex The amount of argument nodes of the command before this parameter.
+     */
+    ACFBrigadierSuggestionProvider(RegisteredCommand<?> command, CommandParameter<?> parameter, int argIndex,
+                                   Function<S, CommandIssuer> issuers, Executor asyncExecutor, Executor syncExecutor) {
+        this.targets.add(new Target(command, parameter));
+        this.consumesRest = parameter.consumesRest;
+        this.argIndex = argIndex;
+        this.issuers = issuers;
+        this.asyncExecutor = asyncExecutor;
+        this.syncExecutor = syncExecutor;
+    }
+
+    /**
+     * Makes this provider also complete the commands of another one, whose node brigadier merged into this one's.
+     */
+    void merge(ACFBrigadierSuggestionProvider<S> other) {
+        for (Target target : other.targets) {
+            // Nodes after literal choices are shared, so the same node may be merged in more than once
+            if (targets.stream().noneMatch(existing -> existing.command == target.command)) {
+                targets.add(target);
+            }
+        }
+    }
+
+    @Override
+    public CompletableFuture<Suggestions> getSuggestions(CommandContext<S> context, SuggestionsBuilder builder) {
+        CommandIssuer issuer = issuers.apply(context.getSource());
+        String input = builder.getInput();
+        int labelEnd = input.indexOf(' ');
+        if (labelEnd == -1) {
+            return builder.buildFuture();
+        }
+        String label = input.substring(input.startsWith("/") ? 1 : 0, labelEnd);
+
+        // Every node before this one took a single argument, only this one may take the rest of the input
+        int argsStart = labelEnd + 1;
+        String[] before = builder.getStart() > argsStart
+                ? ACFTokenizer.split(input.substring(argsStart, builder.getStart() - 1), ' ') : new String[0];
+        String[] own = consumesRest ? ACFTokenizer.split(builder.getRemaining(), ' ', -1) : new String[]{builder.getRemaining()};
+        int prior = Math.min(argIndex, before.length);
+        String[] args = new String[prior + own.length];
+        System.arraycopy(before, before.length - prior, args, 0, prior);
+        System.arraycopy(own, 0, args, prior, own.length);
+
+        // Completions only ever replace the last argument
+        SuggestionsBuilder suggestions = own.length == 1 ? builder
+                : builder.createOffset(builder.getStart() + builder.getRemaining().lastIndexOf(' ') + 1);
+
+        CompletableFuture<Suggestions> future = new CompletableFuture<>();
+        try {
+            asyncExecutor.execute(() -> {
+                try {
+                    complete(future, suggestions, issuer, label, args, true);
+                } catch (CommandCompletions.SyncCompletionRequired e) {
+                    try {
+                        syncExecutor.execute(() -> complete(future, suggestions, issuer, label, args, false));
+                    } catch (Exception ex) {
+                        // The platform refused the task, e.g. once the plugin is disabled
+                        future.complete(suggestions.build());
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Shutting down
+            return builder.buildFuture();
+        }
+        return future;
+    }
+
+    private void complete(CompletableFuture<Suggestions> future, SuggestionsBuilder builder, CommandIssuer issuer,
+                          String label, String[] args, boolean isAsync) {
+        try {
+            // Completions of every overload, each with the description of the first parameter suggesting it
+            Map<String, Message> suggestions = new LinkedHashMap<>();
+            for (Target target : targets) {
+                RegisteredCommand<?> command = target.command;
+                List<String> completions = command.scope.tabCompleteCommand(issuer, command, label, args, isAsync);
+                for (String completion : completions) {
+                    if (!suggestions.containsKey(completion)) {
+                        suggestions.put(completion, target.tooltip);
+                    }
+                }
+            }
+            suggestions.forEach((completion, tooltip) -> {
+                if (tooltip != null) {
+                    builder.suggest(completion, tooltip);
+                } else {
+                    builder.suggest(completion);
+                }
+            });
+            future.complete(builder.build());
+        } catch (CommandCompletions.SyncCompletionRequired e) {
+            throw e;
+        } catch (Exception e) {
+            future.completeExceptionally(e);
+        }
+    }
+
+    private static final class Target {
+        private final RegisteredCommand<?> command;
+        private final Message tooltip;
+
+        private Target(RegisteredCommand<?> command, CommandParameter<?> parameter) {
+            this.command = command;
+            String description = parameter.getDescription();
+            this.tooltip = description != null && !description.isEmpty() ? new LiteralMessage(description) : null;
+        }
+    }
+}
@@ -40,6 +40,11 @@ public class ACFBukkitHelpTopic extends GenericCommandHelpTopic {
             public void sendMessageInternal(String message) {
                 messages.add(message);
             }
+
+            @Override
+            public void sendMessagesInternal(List<String> lines) {
+                messages.addAll(lines);
+            }
         };
         manager.generateCommandHelp(captureIssuer, command).showHelp(captureIssuer);
         this.fullText = ACFUtil.join(messages, "\n");
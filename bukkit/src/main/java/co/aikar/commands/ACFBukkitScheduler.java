@@ -39,6 +39,10 @@ public class ACFBukkitScheduler {
         Bukkit.getScheduler().runTaskLater(plugin, task, delay);
     }
 
+    public void createSyncTask(Plugin plugin, Runnable task) {
+        Bukkit.getScheduler().runTask(plugin, task);
+    }
+
     public void createLocaleTask(Plugin plugin, Runnable task, long delay, long period) {
         this.localeTask = Bukkit.getScheduler().runTaskTimer(plugin, task, delay, period).getTaskId();
     }
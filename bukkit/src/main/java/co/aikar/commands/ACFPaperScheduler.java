@@ -25,6 +25,7 @@ package co.aikar.commands;
 
 import io.papermc.paper.threadedregions.scheduler.AsyncScheduler;
 import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import org.bukkit.Bukkit;
 import org.bukkit.plugin.Plugin;
 import org.jetbrains.annotations.NotNull;
 
@@ -50,6 +51,11 @@ public class ACFPaperScheduler extends ACFBukkitScheduler {
         scheduler.runDelayed(plugin, (scheduledTask) -> task.run(), (delay / 20), TimeUnit.SECONDS);
     }
 
+    @Override
+    public void createSyncTask(Plugin plugin, Runnable task) {
+        Bukkit.getGlobalRegionScheduler().run(plugin, (scheduledTask) -> task.run());
+    }
+
     @Override
     public void createLocaleTask(Plugin plugin, Runnable task, long delay, long period) {
         // We divide by 20 because 20 ticks per second.
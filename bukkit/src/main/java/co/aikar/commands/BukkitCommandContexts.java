@@ -56,6 +56,8 @@ public class BukkitCommandContexts extends CommandContexts<BukkitCommandExecutio
             OnlinePlayer onlinePlayer = getOnlinePlayer(c.getIssuer(), c.popFirstArg(), false);
             return new co.aikar.commands.contexts.OnlinePlayer(onlinePlayer.getPlayer());
         });
+        registerArgumentPredicate(OnlinePlayer.class, BukkitCommandContexts::isOnlinePlayer);
+        registerArgumentPredicate(co.aikar.commands.contexts.OnlinePlayer.class, BukkitCommandContexts::isOnlinePlayer);
         registerContext(OnlinePlayer[].class, (c) -> {
             BukkitCommandIssuer issuer = c.getIssuer();
             final String search = c.popFirstArg();
@@ -249,6 +251,10 @@ public class BukkitCommandContexts extends CommandContexts<BukkitCommandExecutio
         }
     }
 
+    private static boolean isOnlinePlayer(String lookup) {
+        return !Bukkit.getServer().matchPlayer(ACFUtil.replace(lookup, ":confirm", "")).isEmpty();
+    }
+
     @Contract("_,_,false -> !null")
     OnlinePlayer getOnlinePlayer(BukkitCommandIssuer issuer, String lookup, boolean allowMissing) throws InvalidCommandArgument {
         Player player = ACFBukkitUtil.findPlayerSmart(issuer, lookup);
@@ -28,6 +28,7 @@ import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -74,6 +75,15 @@ public class BukkitCommandIssuer implements CommandIssuer {
         sender.sendMessage(ACFBukkitUtil.color(message));
     }
 
+    @Override
+    public void sendMessagesInternal(List<String> lines) {
+        String[] messages = new String[lines.size()];
+        for (int i = 0; i < messages.length; i++) {
+            messages[i] = ACFBukkitUtil.color(lines.get(i));
+        }
+        sender.sendMessage(messages);
+    }
+
     @Override
     public boolean hasPermission(String name) {
         return sender.hasPermission(name);
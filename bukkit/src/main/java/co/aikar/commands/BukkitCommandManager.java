@@ -51,10 +51,12 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
@@ -83,6 +85,10 @@ public class BukkitCommandManager extends CommandManager<
     public final Integer mcPatchVersion;
     protected Map<String, Command> knownCommands = new HashMap<>();
     protected Map<String, BukkitRootCommand> registeredCommands = new HashMap<>();
+    private final Set<BukkitRootCommand> pendingPermissions = new LinkedHashSet<>();
+    private boolean commandMapChanged;
+    private volatile boolean syncScheduled;
+    private Method syncCommands;
     protected BukkitCommandContexts contexts;
     protected BukkitCommandCompletions completions;
     protected BukkitLocales locales;
@@ -179,6 +185,14 @@ public class BukkitCommandManager extends CommandManager<
         return commandMap;
     }
 
+    /**
+     * @return Dispatch counts per label for the commands routed through ACF's proxy command map,
+     * or an empty map when the server's command map did not need to be proxied
+     */
+    public Map<String, Long> getProxiedDispatchCounts() {
+        return commandMap instanceof ProxyCommandMap ? ((ProxyCommandMap) commandMap).getDispatchCounts() : Collections.emptyMap();
+    }
+
     public Plugin getPlugin() {
         return this.plugin;
     }
@@ -188,6 +202,12 @@ public class BukkitCommandManager extends CommandManager<
         return CommandSender.class.isAssignableFrom(type);
     }
 
+    @Override
+    public boolean isRateLimitExempt(CommandIssuer issuer) {
+        // Anything but a player is the server itself, like the console or command blocks
+        return !issuer.isPlayer();
+    }
+
     @Override
     public synchronized CommandContexts<BukkitCommandExecutionContext> getCommandContexts() {
         if (this.contexts == null) {
@@ -222,34 +242,37 @@ public class BukkitCommandManager extends CommandManager<
 
     public void registerCommand(BaseCommand command, boolean force) {
         final String plugin = this.plugin.getName().toLowerCase(Locale.ENGLISH);
-        command.onRegister(this);
-        for (Map.Entry<String, RootCommand> entry : command.registeredCommands.entrySet()) {
-            String commandName = entry.getKey().toLowerCase(Locale.ENGLISH);
-            BukkitRootCommand bukkitCommand = (BukkitRootCommand) entry.getValue();
-            if (!bukkitCommand.isRegistered) {
-                Command oldCommand = commandMap.getCommand(commandName);
-                if (oldCommand instanceof PluginIdentifiableCommand && ((PluginIdentifiableCommand) oldCommand).getPlugin() == this.plugin) {
-                    knownCommands.remove(commandName);
-                    oldCommand.unregister(commandMap);
-                } else if (oldCommand != null && force) {
-                    knownCommands.remove(commandName);
-                    for (Map.Entry<String, Command> ce : knownCommands.entrySet()) {
-                        String key = ce.getKey();
-                        Command value = ce.getValue();
-                        if (key.contains(":") && oldCommand.equals(value)) {
-                            String[] split = ACFPatterns.COLON.split(key, 2);
-                            if (split.length > 1) {
-                                oldCommand.unregister(commandMap);
-                                oldCommand.setLabel(split[0] + ":" + command.getName());
-                                oldCommand.register(commandMap);
+        try (RegistrationBatch ignored = batchRegistration()) {
+            command.onRegister(this);
+            for (Map.Entry<String, RootCommand> entry : command.registeredCommands.entrySet()) {
+                String commandName = entry.getKey().toLowerCase(Locale.ENGLISH);
+                BukkitRootCommand bukkitCommand = (BukkitRootCommand) entry.getValue();
+                if (!bukkitCommand.isRegistered) {
+                    Command oldCommand = commandMap.getCommand(commandName);
+                    if (oldCommand instanceof PluginIdentifiableCommand && ((PluginIdentifiableCommand) oldCommand).getPlugin() == this.plugin) {
+                        knownCommands.remove(commandName);
+                        oldCommand.unregister(commandMap);
+                    } else if (oldCommand != null && force) {
+                        knownCommands.remove(commandName);
+                        for (Map.Entry<String, Command> ce : knownCommands.entrySet()) {
+                            String key = ce.getKey();
+                            Command value = ce.getValue();
+                            if (key.contains(":") && oldCommand.equals(value)) {
+                                String[] split = ACFPatterns.COLON.split(key, 2);
+                                if (split.length > 1) {
+                                    oldCommand.unregister(commandMap);
+                                    oldCommand.setLabel(split[0] + ":" + command.getName());
+                                    oldCommand.register(commandMap);
+                                }
                             }
                         }
                     }
+                    commandMap.register(commandName, plugin, bukkitCommand);
+                    commandMapChanged = true;
                 }
-                commandMap.register(commandName, plugin, bukkitCommand);
+                bukkitCommand.isRegistered = true;
+                registeredCommands.put(commandName, bukkitCommand);
             }
-            bukkitCommand.isRegistered = true;
-            registeredCommands.put(commandName, bukkitCommand);
         }
     }
 
@@ -258,13 +281,44 @@ public class BukkitCommandManager extends CommandManager<
         registerCommand(command, false);
     }
 
+    /**
+     * Registers many commands, recomputing root command permissions and sending the updated commands
+     * to online players only once all of them are registered.
+     *
+     * @param commands The commands to register
+     * @param force    If existing commands of other plugins with the same names should be moved to their fallback prefix
+     */
+    public void registerCommands(Collection<? extends BaseCommand> commands, boolean force) {
+        try (RegistrationBatch ignored = batchRegistration()) {
+            for (BaseCommand command : commands) {
+                registerCommand(command, force);
+            }
+        }
+    }
+
     public void unregisterCommand(BaseCommand command) {
-        for (RootCommand rootcommand : command.registeredCommands.values()) {
-            BukkitRootCommand bukkitCommand = (BukkitRootCommand) rootcommand;
-            bukkitCommand.getSubCommands().values().removeAll(command.subCommands.values());
-            if (bukkitCommand.isRegistered && bukkitCommand.getSubCommands().isEmpty()) {
-                unregisterCommand(bukkitCommand);
-                bukkitCommand.isRegistered = false;
+        try (RegistrationBatch ignored = batchRegistration()) {
+            for (RootCommand rootcommand : command.registeredCommands.values()) {
+                BukkitRootCommand bukkitCommand = (BukkitRootCommand) rootcommand;
+                bukkitCommand.getSubCommands().values().removeAll(command.subCommands.values());
+                if (bukkitCommand.isRegistered && bukkitCommand.getSubCommands().isEmpty()) {
+                    unregisterCommand(bukkitCommand);
+                    bukkitCommand.isRegistered = false;
+                }
+            }
+            invalidateCommands();
+        }
+    }
+
+    /**
+     * Unregisters many commands, sending the updated commands to online players only once all of them are unregistered.
+     *
+     * @param commands The commands to unregister
+     */
+    public void unregisterCommands(Collection<? extends BaseCommand> commands) {
+        try (RegistrationBatch ignored = batchRegistration()) {
+            for (BaseCommand command : commands) {
+                unregisterCommand(command);
             }
         }
     }
@@ -276,22 +330,87 @@ public class BukkitCommandManager extends CommandManager<
     @Deprecated
     public void unregisterCommand(BukkitRootCommand command) {
         final String plugin = this.plugin.getName().toLowerCase(Locale.ENGLISH);
-        command.unregister(commandMap);
-        String key = command.getName();
-        Command registered = knownCommands.get(key);
-        if (command.equals(registered)) {
-            knownCommands.remove(key);
+        try (RegistrationBatch ignored = batchRegistration()) {
+            command.unregister(commandMap);
+            String key = command.getName();
+            Command registered = knownCommands.get(key);
+            if (command.equals(registered)) {
+                knownCommands.remove(key);
+            }
+            knownCommands.remove(plugin + ":" + key);
+            registeredCommands.remove(key);
+            commandMapChanged = true;
+            invalidateCommands();
         }
-        knownCommands.remove(plugin + ":" + key);
-        registeredCommands.remove(key);
     }
 
     public void unregisterCommands() {
-        for (String key : new HashSet<>(registeredCommands.keySet())) {
-            unregisterCommand(registeredCommands.get(key));
+        try (RegistrationBatch ignored = batchRegistration()) {
+            for (String key : new HashSet<>(registeredCommands.keySet())) {
+                unregisterCommand(registeredCommands.get(key));
+            }
+        }
+    }
+
+    /**
+     * Recomputes the permission of the root command, or defers it until the current registration batch is closed
+     * as it walks every child command.
+     */
+    void updatePermission(BukkitRootCommand command) {
+        if (registrationBatch.isOpen()) {
+            pendingPermissions.add(command);
+        } else {
+            command.setPermission(command.getUniquePermission());
+        }
+    }
+
+    @Override
+    void onRegistrationCommitted() {
+        if (!pendingPermissions.isEmpty()) {
+            for (BukkitRootCommand command : pendingPermissions) {
+                command.setPermission(command.getUniquePermission());
+            }
+            pendingPermissions.clear();
+        }
+        if (commandMapChanged) {
+            commandMapChanged = false;
+            scheduleSyncCommands();
+        }
+    }
+
+    /**
+     * Sends the changed commands to online players on the next tick, once for every change made until then,
+     * as each plain register call commits on its own. Players joining later, and the server once it finished
+     * enabling plugins, pick up the command map on their own.
+     */
+    private void scheduleSyncCommands() {
+        if (syncScheduled || !this.plugin.isEnabled()) {
+            return;
         }
+        syncScheduled = true;
+        scheduler.createSyncTask(this.plugin, () -> {
+            syncScheduled = false;
+            syncCommands();
+        });
     }
 
+    private void syncCommands() {
+        if (!this.plugin.isEnabled() || Bukkit.getOnlinePlayers().isEmpty()) {
+            return;
+        }
+        try {
+            if (syncCommands == null) {
+                syncCommands = Bukkit.getServer().getClass().getDeclaredMethod("syncCommands");
+                syncCommands.setAccessible(true);
+            }
+            // Rebuilds the server's command tree once, then sends it to every online player
+            syncCommands.invoke(Bukkit.getServer());
+        } catch (NoSuchMethodException ignored) {
+            // Pre 1.13 servers have no command tree to send
+        } catch (Exception e) {
+            log(LogLevel.ERROR, "Could not send the updated commands to online players", e);
+        }
+    }
 
     private Field getEntityField(Player player) throws NoSuchFieldException {
         Class cls = player.getClass();
@@ -75,13 +75,13 @@ public class BukkitRootCommand extends Command implements RootCommand, PluginIde
     @Override
     public List<String> tabComplete(CommandSender sender, String commandLabel, String[] args) throws IllegalArgumentException {
         if (commandLabel.contains(":")) commandLabel = ACFPatterns.COLON.split(commandLabel, 2)[1];
-        return getTabCompletions(manager.getCommandIssuer(sender), commandLabel, args);
+        return completeInput(manager.getCommandIssuer(sender), commandLabel, args, false);
     }
 
     @Override
     public boolean execute(CommandSender sender, String commandLabel, String[] args) {
         if (commandLabel.contains(":")) commandLabel = ACFPatterns.COLON.split(commandLabel, 2)[1];
-        execute(manager.getCommandIssuer(sender), commandLabel, args);
+        execute(manager.getCommandIssuer(sender), commandLabel, manager.parseArguments(args));
         return true;
     }
 
@@ -95,7 +95,7 @@ public class BukkitRootCommand extends Command implements RootCommand, PluginIde
             this.defCommand = command;
         }
         addChildShared(this.children, this.subCommands, command);
-        setPermission(getUniquePermission());
+        manager.updatePermission(this);
     }
 
     @Override
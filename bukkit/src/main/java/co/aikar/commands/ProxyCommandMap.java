@@ -30,13 +30,25 @@ import org.bukkit.command.CommandMap;
 import org.bukkit.command.CommandSender;
 import org.bukkit.command.SimpleCommandMap;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 class ProxyCommandMap extends SimpleCommandMap {
 
     private BukkitCommandManager manager;
     CommandMap proxied;
+    /**
+     * Sorted case insensitive hashes of every label (aliases and fallback prefixed labels included) owned by
+     * {@link #manager}. Lets commands of other plugins pass through without touching the label string.
+     */
+    private volatile int[] ownedLabels = new int[0];
+    private final Map<String, LongAdder> dispatchCounts = new ConcurrentHashMap<>();
 
     ProxyCommandMap(BukkitCommandManager manager, CommandMap proxied) {
         super(Bukkit.getServer());
@@ -52,17 +64,64 @@ class ProxyCommandMap extends SimpleCommandMap {
     @Override
     public boolean register(String label, String fallbackPrefix, Command command) {
         if (isOurCommand(command)) {
-            return super.register(label, fallbackPrefix, command);
+            boolean registered = super.register(label, fallbackPrefix, command);
+            indexOwnedLabels();
+            return registered;
         } else {
             return proxied.register(label, fallbackPrefix, command);
         }
     }
 
     boolean isOurCommand(String cmdLine) {
-        String[] args = ACFPatterns.SPACE.split(cmdLine);
-        return args.length != 0 && isOurCommand(knownCommands.get(args[0].toLowerCase(Locale.ENGLISH)));
+        return ownedLabel(cmdLine) != null;
+    }
+
+    /**
+     * @return The lowercased label of the command line if it belongs to this manager, otherwise null.
+     * Only allocates once the label hash matches one of ours.
+     */
+    private String ownedLabel(String cmdLine) {
+        int end = cmdLine.indexOf(' ');
+        if (end == -1) {
+            end = cmdLine.length();
+        }
+        if (Arrays.binarySearch(ownedLabels, labelHash(cmdLine, end)) < 0) {
+            return null;
+        }
+        String label = cmdLine.substring(0, end).toLowerCase(Locale.ENGLISH);
+        return isOurCommand(knownCommands.get(label)) ? label : null;
+    }
+
+    private static int labelHash(String input, int end) {
+        int hash = 0;
+        for (int i = 0; i < end; i++) {
+            hash = 31 * hash + Character.toLowerCase(input.charAt(i));
+        }
+        return hash;
+    }
+
+    /**
+     * Rebuilds the ownership index from the registered commands. Entries left behind by unregistered commands are
+     * harmless, as a hash match is always confirmed against {@link #knownCommands}.
+     */
+    private void indexOwnedLabels() {
+        this.ownedLabels = knownCommands.entrySet().stream()
+                .filter(entry -> isOurCommand(entry.getValue()))
+                .mapToInt(entry -> labelHash(entry.getKey(), entry.getKey().length()))
+                .distinct()
+                .sorted()
+                .toArray();
+    }
 
+    /**
+     * @return How many times each of our labels has been dispatched through this proxy
+     */
+    Map<String, Long> getDispatchCounts() {
+        Map<String, Long> counts = new HashMap<>();
+        dispatchCounts.forEach((label, count) -> counts.put(label, count.sum()));
+        return Collections.unmodifiableMap(counts);
     }
+
     boolean isOurCommand(Command command) {
         return command instanceof RootCommand && ((RootCommand) command).getManager() == manager;
     }
@@ -70,7 +129,9 @@ class ProxyCommandMap extends SimpleCommandMap {
     @Override
     public boolean register(String fallbackPrefix, Command command) {
         if (isOurCommand(command)) {
-            return super.register(fallbackPrefix, command);
+            boolean registered = super.register(fallbackPrefix, command);
+            indexOwnedLabels();
+            return registered;
         } else {
             return proxied.register(fallbackPrefix, command);
         }
@@ -78,7 +139,9 @@ class ProxyCommandMap extends SimpleCommandMap {
 
     @Override
     public boolean dispatch(CommandSender sender, String cmdLine) throws CommandException {
-        if (isOurCommand(cmdLine)) {
+        String label = ownedLabel(cmdLine);
+        if (label != null) {
+            dispatchCounts.computeIfAbsent(label, k -> new LongAdder()).increment();
             return super.dispatch(sender, cmdLine);
         } else {
             return proxied.dispatch(sender, cmdLine);
@@ -88,6 +151,7 @@ class ProxyCommandMap extends SimpleCommandMap {
     @Override
     public void clearCommands() {
         super.clearCommands();
+        indexOwnedLabels();
         proxied.clearCommands();
     }
 
@@ -28,6 +28,7 @@ import co.aikar.commands.annotation.Optional;
 import co.aikar.commands.bungee.contexts.OnlinePlayer;
 import net.md_5.bungee.api.ChatColor;
 import net.md_5.bungee.api.CommandSender;
+import net.md_5.bungee.api.ProxyServer;
 import net.md_5.bungee.api.connection.ProxiedPlayer;
 import org.jetbrains.annotations.Nullable;
 
@@ -43,6 +44,8 @@ public class BungeeCommandContexts extends CommandContexts<BungeeCommandExecutio
             OnlinePlayer onlinePlayer = getOnlinePlayer(c);
             return onlinePlayer != null ? new co.aikar.commands.contexts.OnlineProxiedPlayer(onlinePlayer.getPlayer()) : null;
         });
+        registerArgumentPredicate(OnlinePlayer.class, BungeeCommandContexts::isOnlinePlayer);
+        registerArgumentPredicate(co.aikar.commands.contexts.OnlineProxiedPlayer.class, BungeeCommandContexts::isOnlinePlayer);
         registerIssuerAwareContext(CommandSender.class, BungeeCommandExecutionContext::getSender);
         registerIssuerAwareContext(ProxiedPlayer.class, (c) -> {
             ProxiedPlayer proxiedPlayer = c.getSender() instanceof ProxiedPlayer ? (ProxiedPlayer) c.getSender() : null;
@@ -85,6 +88,10 @@ public class BungeeCommandContexts extends CommandContexts<BungeeCommandExecutio
         });
     }
 
+    private static boolean isOnlinePlayer(String lookup) {
+        return !ProxyServer.getInstance().matchPlayer(ACFUtil.replace(lookup, ":confirm", "")).isEmpty();
+    }
+
     @Nullable
     private co.aikar.commands.contexts.OnlineProxiedPlayer getOnlinePlayer(BungeeCommandExecutionContext c) throws InvalidCommandArgument {
         ProxiedPlayer proxiedPlayer = ACFBungeeUtil.findPlayerSmart(c.getIssuer(), c.popFirstArg());
@@ -24,10 +24,13 @@
 package co.aikar.commands;
 
 import net.md_5.bungee.api.CommandSender;
+import net.md_5.bungee.api.chat.BaseComponent;
+import net.md_5.bungee.api.chat.TextComponent;
 import net.md_5.bungee.api.connection.ProxiedPlayer;
 import org.jetbrains.annotations.NotNull;
 
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -75,6 +78,20 @@ public class BungeeCommandIssuer implements CommandIssuer {
         sender.sendMessage(ACFBungeeUtil.color(message));
     }
 
+    @Override
+    public void sendMessagesInternal(List<String> lines) {
+        TextComponent message = new TextComponent();
+        for (int i = 0; i < lines.size(); i++) {
+            if (i > 0) {
+                message.addExtra("\n");
+            }
+            for (BaseComponent component : TextComponent.fromLegacyText(ACFBungeeUtil.color(lines.get(i)))) {
+                message.addExtra(component);
+            }
+        }
+        sender.sendMessage(message);
+    }
+
     @Override
     public boolean hasPermission(String name) {
         return sender.hasPermission(name);
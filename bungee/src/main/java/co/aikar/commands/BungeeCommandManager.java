@@ -147,6 +147,7 @@ public class BungeeCommandManager extends CommandManager<
                 registeredCommands.remove(commandName);
             }
         }
+        invalidateCommands();
     }
 
     public void unregisterCommand(BungeeRootCommand command) {
@@ -169,6 +170,12 @@ public class BungeeCommandManager extends CommandManager<
         return CommandSender.class.isAssignableFrom(aClass);
     }
 
+    @Override
+    public boolean isRateLimitExempt(CommandIssuer issuer) {
+        // Anything but a player is the proxy itself, like its console
+        return !issuer.isPlayer();
+    }
+
     @Override
     public BungeeCommandIssuer getCommandIssuer(Object issuer) {
         if (!(issuer instanceof CommandSender)) {
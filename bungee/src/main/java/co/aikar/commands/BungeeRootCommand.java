@@ -80,7 +80,7 @@ public class BungeeRootCommand extends Command implements RootCommand, TabExecut
 
     @Override
     public void execute(CommandSender sender, String[] args) {
-        execute(manager.getCommandIssuer(sender), getName(), args);
+        execute(manager.getCommandIssuer(sender), getName(), manager.parseArguments(args));
     }
 
     @Override
@@ -95,7 +95,7 @@ public class BungeeRootCommand extends Command implements RootCommand, TabExecut
 
     @Override
     public Iterable<String> onTabComplete(CommandSender commandSender, String[] strings) {
-        return getTabCompletions(manager.getCommandIssuer(commandSender), getName(), strings);
+        return completeInput(manager.getCommandIssuer(commandSender), getName(), strings, false);
     }
 
     @Override
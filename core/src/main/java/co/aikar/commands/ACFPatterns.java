@@ -23,11 +23,6 @@
 
 package co.aikar.commands;
 
-import net.jodah.expiringmap.ExpirationPolicy;
-import net.jodah.expiringmap.ExpiringMap;
-
-import java.util.Map;
-import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 
 @SuppressWarnings("WeakerAccess")
@@ -55,11 +50,7 @@ final class ACFPatterns {
     private ACFPatterns() {
     }
 
-    static final Map<String, Pattern> patternCache = ExpiringMap.builder()
-            .maxSize(200)
-            .expiration(1, TimeUnit.HOURS)
-            .expirationPolicy(ExpirationPolicy.ACCESSED)
-            .build();
+    static final BoundedCache<String, Pattern> patternCache = new BoundedCache<>(200);
 
     /**
      * Gets a pattern and compiles it.
@@ -72,6 +63,6 @@ final class ACFPatterns {
      * @return The pattern which has been cached.
      */
     public static Pattern getPattern(String pattern) {
-        return patternCache.computeIfAbsent(pattern, s -> Pattern.compile(pattern));
+        return patternCache.computeIfAbsent(pattern, Pattern::compile);
     }
 }
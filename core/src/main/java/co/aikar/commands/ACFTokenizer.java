@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) 2016-2017 Daniel Ennis (Aikar) - MIT License
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining
+ *  a copy of this software and associated documentation files (the
+ *  "Software"), to deal in the Software without restriction, including
+ *  without limitation the rights to use, copy, modify, merge, publish,
+ *  distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to
+ *  the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be
+ *  included in all copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ *  EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ *  MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ *  NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ *  LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ *  OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ *  WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package co.aikar.commands;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits strings on a single character without going through the regex engine.
+ * <p>
+ * Used as a cursor, the tokenizer walks the input one token at a time and exposes each token as an offset range
+ * into the original string, so callers can inspect tokens without building arrays or substrings:
+ * <pre>{@code
+ * ACFTokenizer tokens = new ACFTokenizer(permission, ',');
+ * while (tokens.next()) {
+ *     if (tokens.length() > 0) { ... tokens.token() ... }
+ * }
+ * }</pre>
+ * In plain mode every separator ends a token, so empty tokens are reported, exactly like {@code split(input, -1)}.
+ * <p>
+ * In quoted mode runs of separators are collapsed, text in single or double quotes is kept together and a backslash
+ * escapes the next character. An unterminated quote runs to the end of the input, and input ending in a separator
+ * yields a final empty token, so completion can tell a new argument has been started.
+ * {@link #start()} and {@link #end()} always point at the raw text of a token, quotes included.
+ */
+final class ACFTokenizer {
+    private static final String[] EMPTY = new String[0];
+
+    private final String input;
+    private final char separator;
+    private final boolean quoted;
+    private int pos;
+    private int start;
+    private int end;
+    private String unescaped;
+
+    ACFTokenizer(String input, char separator) {
+        this(input, separator, false);
+    }
+
+    ACFTokenizer(String input, char separator, boolean quoted) {
+        this.input = input;
+        this.separator = separator;
+        this.quoted = quoted;
+    }
+
+    /**
+     * Advances to the next token.
+     *
+     * @return false once the input is exhausted
+     */
+    boolean next() {
+        final int length = input.length();
+        if (pos > length) {
+            return false;
+        }
+        unescaped = null;
+        if (!quoted) {
+            int idx = input.indexOf(separator, pos);
+            start = pos;
+            end = idx == -1 ? length : idx;
+            pos = end + 1;
+            return true;
+        }
+
+        while (pos < length && input.charAt(pos) == separator) {
+            pos++;
+        }
+        start = pos;
+        if (pos == length) {
+            // Only report the trailing empty token after a separator, or for empty input
+            pos++;
+            end = start;
+            return length == 0 || input.charAt(length - 1) == separator;
+        }
+        StringBuilder sb = null;
+        char quote = 0;
+        int i = pos;
+        for (; i < length; i++) {
+            char c = input.charAt(i);
+            if (c == '\\' && i + 1 < length) {
+                sb = append(sb, i);
+                sb.append(input.charAt(++i));
+            } else if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                    sb = append(sb, i);
+                } else if (sb != null) {
+                    sb.append(c);
+                }
+            } else if (c == '"' || c == '\'') {
+                quote = c;
+                sb = append(sb, i);
+            } else if (c == separator) {
+                break;
+            } else if (sb != null) {
+                sb.append(c);
+            }
+        }
+        end = i;
+        // Step past the separator, or past the end when the input is exhausted so no empty token follows
+        pos = i < length ? i + 1 : length + 1;
+        if (sb != null) {
+            unescaped = sb.toString();
+        }
+        return true;
+    }
+
+    private StringBuilder append(StringBuilder sb, int i) {
+        if (sb == null) {
+            sb = new StringBuilder(i - start + 16);
+            sb.append(input, start, i);
+        }
+        return sb;
+    }
+
+    /**
+     * @return Offset of the first character of the current token in the input
+     */
+    int start() {
+        return start;
+    }
+
+    /**
+     * @return Offset just past the last character of the current token in the input
+     */
+    int end() {
+        return end;
+    }
+
+    /**
+     * @return Length of the raw text of the current token
+     */
+    int length() {
+        return end - start;
+    }
+
+    /**
+     * @return The current token, with quotes and escapes resolved in quoted mode
+     */
+    String token() {
+        return unescaped != null ? unescaped : input.substring(start, end);
+    }
+
+    /**
+     * Collects all tokens into an array, with the same results as {@link java.util.regex.Pattern#split(CharSequence)}
+     * on a single character pattern: trailing empty tokens are dropped.
+     */
+    static String[] split(String input, char separator) {
+        return split(input, separator, 0);
+    }
+
+    /**
+     * Collects tokens into an array, with the same results as
+     * {@link java.util.regex.Pattern#split(CharSequence, int)} on a single character pattern.
+     */
+    static String[] split(String input, char separator, int limit) {
+        int idx = input.indexOf(separator);
+        if (idx == -1) {
+            return new String[]{input};
+        }
+        List<String> tokens = new ArrayList<>();
+        int from = 0;
+        while (idx != -1 && (limit <= 0 || tokens.size() < limit - 1)) {
+            tokens.add(input.substring(from, idx));
+            from = idx + 1;
+            idx = input.indexOf(separator, from);
+        }
+        tokens.add(input.substring(from));
+        if (limit == 0) {
+            int size = tokens.size();
+            while (size > 0 && tokens.get(size - 1).isEmpty()) {
+                size--;
+            }
+            return size == 0 ? EMPTY : tokens.subList(0, size).toArray(EMPTY);
+        }
+        return tokens.toArray(EMPTY);
+    }
+
+    /**
+     * Parses command input in quoted mode on spaces.
+     *
+     * @return The arguments, or none for empty input
+     */
+    static String[] tokenize(String input) {
+        if (input.isEmpty()) {
+            return EMPTY;
+        }
+        List<String> tokens = new ArrayList<>();
+        ACFTokenizer tokenizer = new ACFTokenizer(input, ' ', true);
+        while (tokenizer.next()) {
+            tokens.add(tokenizer.token());
+        }
+        return tokens.toArray(EMPTY);
+    }
+
+    /**
+     * @return The text before the first separator, or the whole input if there is none
+     */
+    static String first(String input, char separator) {
+        int idx = input.indexOf(separator);
+        return idx == -1 ? input : input.substring(0, idx);
+    }
+
+    /**
+     * @return The number of tokens {@link #split(String, char)} would return, without building them
+     */
+    static int count(String input, char separator) {
+        int idx = input.indexOf(separator);
+        if (idx == -1) {
+            return 1;
+        }
+        int count = 0;
+        int pending = 0;
+        int from = 0;
+        while (true) {
+            int end = idx == -1 ? input.length() : idx;
+            if (end > from) {
+                count += pending + 1;
+                pending = 0;
+            } else {
+                // Empty tokens only count if something follows them
+                pending++;
+            }
+            if (idx == -1) {
+                return count;
+            }
+            from = idx + 1;
+            idx = input.indexOf(separator, from);
+        }
+    }
+}
@@ -190,7 +190,28 @@ public final class ACFUtil {
         if (str == null) {
             return null;
         }
-        return ACFPatterns.NON_ALPHA_NUMERIC.matcher(str.toLowerCase(Locale.ENGLISH)).replaceAll("");
+        StringBuilder sb = null;
+        for (int i = 0; i < str.length(); i++) {
+            char c = str.charAt(i);
+            if (c >= 128) {
+                // Non ASCII input may lower case to something else entirely, leave it to the full version
+                return ACFPatterns.NON_ALPHA_NUMERIC.matcher(str.toLowerCase(Locale.ENGLISH)).replaceAll("");
+            }
+            boolean keep = (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9');
+            if (keep && sb == null) {
+                continue;
+            }
+            if (sb == null) {
+                sb = new StringBuilder(str.length());
+                sb.append(str, 0, i);
+            }
+            if (keep) {
+                sb.append(c);
+            } else if (c >= 'A' && c <= 'Z') {
+                sb.append((char) (c + ('a' - 'A')));
+            }
+        }
+        return sb != null ? sb.toString() : str;
     }
 
     public static double round(double x, int scale) {
@@ -258,7 +279,20 @@ public final class ACFUtil {
      * @return
      */
     public static String replace(String string, String pattern, String repl) {
-        return replace(string, ACFPatterns.getPattern(Pattern.quote(pattern)), repl);
+        if (pattern.isEmpty()) {
+            return replace(string, ACFPatterns.getPattern(Pattern.quote(pattern)), repl);
+        }
+        int index = string.indexOf(pattern);
+        if (index == -1) {
+            return string;
+        }
+        StringBuilder sb = new StringBuilder(string.length() + Math.max(0, repl.length() - pattern.length()) * 2);
+        int start = 0;
+        do {
+            sb.append(string, start, index).append(repl);
+            start = index + pattern.length();
+        } while ((index = string.indexOf(pattern, start)) != -1);
+        return sb.append(string, start, string.length()).toString();
     }
 
     /**
@@ -409,6 +443,45 @@ public final class ACFUtil {
         return s.substring(0, i + 1);
     }
 
+    /**
+     * Splits a message into lines, right trimming each of them, the same way splitting
+     * on {@link ACFPatterns#NEWLINE} would, without going through the regex engine.
+     *
+     * @param message The message to split.
+     * @param lines   The list to add the lines to.
+     */
+    public static void splitLines(String message, List<String> lines) {
+        int keep = lines.size();
+        int from = 0;
+        int idx = message.indexOf('\n');
+        if (idx == -1) {
+            lines.add(rtrim(message));
+            return;
+        }
+        while (true) {
+            int end = idx == -1 ? message.length() : idx;
+            if (end > from) {
+                int trimmed = end;
+                while (trimmed > from && Character.isWhitespace(message.charAt(trimmed - 1))) {
+                    trimmed--;
+                }
+                lines.add(message.substring(from, trimmed));
+                keep = lines.size();
+            } else {
+                lines.add("");
+            }
+            if (idx == -1) {
+                break;
+            }
+            from = idx + 1;
+            idx = message.indexOf('\n', from);
+        }
+        // Like String.split, trailing empty lines are dropped
+        while (lines.size() > keep) {
+            lines.remove(lines.size() - 1);
+        }
+    }
+
     public static List<String> enumNames(Enum<?>[] values) {
         return Stream.of(values).map(Enum::name).collect(Collectors.toList());
     }
@@ -436,19 +509,8 @@ public final class ACFUtil {
 
     @Nullable
     public static <E extends Enum<E>> E simpleMatch(Class<? extends Enum<?>> list, String item) {
-        if (item == null) {
-            return null;
-        }
-        item = ACFUtil.simplifyString(item);
-        for (Enum<?> s : list.getEnumConstants()) {
-            String simple = ACFUtil.simplifyString(s.name());
-            if (item.equals(simple)) {
-                //noinspection unchecked
-                return (E) s;
-            }
-        }
-
-        return null;
+        //noinspection unchecked
+        return (E) EnumLookup.of(list).match(item);
     }
 
     public static boolean isTruthy(String test) {
@@ -466,17 +528,7 @@ public final class ACFUtil {
 
 
     public static Number parseNumber(String num, boolean suffixes) {
-        if (ACFPatterns.getPattern("^0x([0-9A-Fa-f]*)$").matcher(num).matches()) {
-            return Long.parseLong(num.substring(2), 16);
-        } else if (ACFPatterns.getPattern("^0b([01]*)$").matcher(num).matches()) {
-            return Long.parseLong(num.substring(2), 2);
-        } else {
-            ApplyModifierToNumber applyModifierToNumber = new ApplyModifierToNumber(num, suffixes).invoke();
-            num = applyModifierToNumber.getNum();
-            double mod = applyModifierToNumber.getMod();
-
-            return Double.parseDouble(num) * mod;
-        }
+        return NumberLexer.parse(num, suffixes);
     }
 
     public static BigDecimal parseBigNumber(String num, boolean suffixes) {
@@ -657,6 +709,11 @@ public final class ACFUtil {
             mod = 1;
             if (suffixes) {
                 switch (num.charAt(num.length() - 1)) {
+                    case 'B':
+                    case 'b':
+                        mod = 1000000000D;
+                        num = num.substring(0, num.length() - 1);
+                        break;
                     case 'M':
                     case 'm':
                         mod = 1000000D;
@@ -0,0 +1,314 @@
+/*
+ * Copyright (c) 2016-2017 Daniel Ennis (Aikar) - MIT License
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining
+ *  a copy of this software and associated documentation files (the
+ *  "Software"), to deal in the Software without restriction, including
+ *  without limitation the rights to use, copy, modify, merge, publish,
+ *  distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to
+ *  the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be
+ *  included in all copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ *  EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ *  MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ *  NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ *  LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ *  OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ *  WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package co.aikar.commands;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * A view over a window of the arguments a user typed, without copying them.
+ * <p>
+ * Removing from either end only moves the window, so consuming arguments one by one is cheap.
+ * The backing array is shared with whoever created the cursor and is never written to: any
+ * other modification first copies the window into an array owned by this cursor.
+ * <p>
+ * This is a {@link List}, so it can be handed to any code expecting the plain list of arguments.
+ */
+public class ArgumentCursor extends AbstractList<String> implements RandomAccess {
+
+    private static final String[] EMPTY = new String[0];
+
+    private String[] input;
+    private int offset;
+    private int limit;
+    private boolean owned;
+
+    public ArgumentCursor(String... input) {
+        this(input, 0, input.length);
+    }
+
+    /**
+     * @param input  The backing arguments, which are not copied.
+     * @param offset Index of the first argument of the view (inclusive).
+     * @param limit  Index of the end of the view (exclusive).
+     */
+    public ArgumentCursor(String[] input, int offset, int limit) {
+        if (offset < 0 || limit > input.length || offset > limit) {
+            throw new IndexOutOfBoundsException("offset: " + offset + ", limit: " + limit + ", length: " + input.length);
+        }
+        this.input = input;
+        this.offset = offset;
+        this.limit = limit;
+    }
+
+    static ArgumentCursor of(List<String> args) {
+        if (args instanceof ArgumentCursor) {
+            return ((ArgumentCursor) args).slice(0);
+        }
+        return new ArgumentCursor(args.toArray(EMPTY));
+    }
+
+    @Override
+    public int size() {
+        return limit - offset;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return limit == offset;
+    }
+
+    @Override
+    public String get(int index) {
+        checkIndex(index);
+        return input[offset + index];
+    }
+
+    /**
+     * @return The first argument, or null if there is none.
+     */
+    public String peekFirst() {
+        return offset < limit ? input[offset] : null;
+    }
+
+    /**
+     * @return The last argument, or null if there is none.
+     */
+    public String peekLast() {
+        return offset < limit ? input[limit - 1] : null;
+    }
+
+    /**
+     * Removes and returns the first argument.
+     *
+     * @return The first argument, or null if there is none.
+     */
+    public String popFirst() {
+        if (offset == limit) {
+            return null;
+        }
+        modCount++;
+        return input[offset++];
+    }
+
+    /**
+     * Removes and returns the last argument.
+     *
+     * @return The last argument, or null if there is none.
+     */
+    public String popLast() {
+        if (offset == limit) {
+            return null;
+        }
+        modCount++;
+        return input[--limit];
+    }
+
+    /**
+     * Creates a new cursor sharing the same backing arguments, starting at the given index of this one.
+     * Changes made to either cursor afterwards are not visible to the other.
+     *
+     * @param from Index in this view the new cursor starts at.
+     * @return The new cursor.
+     */
+    public ArgumentCursor slice(int from) {
+        return slice(from, size());
+    }
+
+    /**
+     * Creates a new cursor sharing the same backing arguments, over the given range of this one.
+     * Changes made to either cursor afterwards are not visible to the other.
+     *
+     * @param from Index in this view the new cursor starts at (inclusive).
+     * @param to   Index in this view the new cursor ends at (exclusive).
+     * @return The new cursor.
+     */
+    public ArgumentCursor slice(int from, int to) {
+        if (from < 0 || to > size() || from > to) {
+            throw new IndexOutOfBoundsException("from: " + from + ", to: " + to + ", size: " + size());
+        }
+        owned = false;
+        return new ArgumentCursor(input, offset + from, offset + to);
+    }
+
+    /**
+     * Joins the arguments of this view.
+     *
+     * @param separator The separator to put between each argument.
+     * @return The joined arguments.
+     */
+    public String join(String separator) {
+        return join(separator, 0, size());
+    }
+
+    /**
+     * Joins a range of the arguments of this view.
+     *
+     * @param separator The separator to put between each argument.
+     * @param from      Index in this view to start at (inclusive).
+     * @param to        Index in this view to end at (exclusive).
+     * @return The joined arguments.
+     */
+    public String join(String separator, int from, int to) {
+        if (from >= to) {
+            return "";
+        }
+        if (to - from == 1) {
+            return String.valueOf(input[offset + from]);
+        }
+        StringBuilder sb = new StringBuilder();
+        for (int i = offset + from; i < offset + to; i++) {
+            if (i > offset + from) {
+                sb.append(separator);
+            }
+            sb.append(input[i]);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Gets the arguments of this view as an array. When the view covers the whole backing array,
+     * it is returned as is instead of being copied, so the result must not be modified.
+     *
+     * @return The arguments of this view.
+     */
+    String[] array() {
+        if (!owned && offset == 0 && limit == input.length) {
+            return input;
+        }
+        return Arrays.copyOfRange(input, offset, limit);
+    }
+
+    @Override
+    public Object[] toArray() {
+        return Arrays.copyOfRange(input, offset, limit, Object[].class);
+    }
+
+    @Override
+    public String remove(int index) {
+        checkIndex(index);
+        if (index == 0) {
+            return popFirst();
+        }
+        if (index == size() - 1) {
+            return popLast();
+        }
+        ensureOwned(0);
+        String removed = input[offset + index];
+        System.arraycopy(input, offset + index + 1, input, offset + index, limit - offset - index - 1);
+        input[--limit] = null;
+        modCount++;
+        return removed;
+    }
+
+    @Override
+    public String set(int index, String element) {
+        checkIndex(index);
+        ensureOwned(0);
+        String previous = input[offset + index];
+        input[offset + index] = element;
+        return previous;
+    }
+
+    @Override
+    public void add(int index, String element) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        ensureOwned(1);
+        System.arraycopy(input, offset + index, input, offset + index + 1, limit - offset - index);
+        input[offset + index] = element;
+        limit++;
+        modCount++;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends String> c) {
+        if (c.isEmpty()) {
+            return false;
+        }
+        ensureOwned(c.size());
+        for (String s : c) {
+            input[limit++] = s;
+        }
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        if (offset != limit) {
+            offset = limit;
+            modCount++;
+        }
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        if (toIndex == size()) {
+            limit = offset + fromIndex;
+            modCount++;
+        } else if (fromIndex == 0) {
+            offset += toIndex;
+            modCount++;
+        } else {
+            super.removeRange(fromIndex, toIndex);
+        }
+    }
+
+    /**
+     * @param array The array this cursor may have been created over.
+     * @return How many arguments were consumed from the start of the array, or -1 if this cursor is no longer
+     * a plain window from that point to the end of it.
+     */
+    int consumedFrom(String[] array) {
+        return input == array && limit == array.length ? offset : -1;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= limit - offset) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+    }
+
+    /**
+     * Makes sure this cursor is the only one writing to its backing array, and that it has room
+     * for the given amount of arguments after its window.
+     */
+    private void ensureOwned(int extra) {
+        if (owned && limit + extra <= input.length) {
+            return;
+        }
+        int size = limit - offset;
+        String[] copy = new String[size + Math.max(extra, 4)];
+        System.arraycopy(input, offset, copy, 0, size);
+        input = copy;
+        offset = 0;
+        limit = size;
+        owned = true;
+    }
+}
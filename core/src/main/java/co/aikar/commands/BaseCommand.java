@@ -33,6 +33,7 @@ import co.aikar.commands.annotation.Default;
 import co.aikar.commands.annotation.Description;
 import co.aikar.commands.annotation.HelpCommand;
 import co.aikar.commands.annotation.PreCommand;
+import co.aikar.commands.annotation.RateLimit;
 import co.aikar.commands.annotation.Subcommand;
 import co.aikar.commands.annotation.UnknownHandler;
 import co.aikar.commands.apachecommonslang.ApacheCommonsLangUtil;
@@ -56,6 +57,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.Stack;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -114,7 +116,7 @@ public abstract class BaseCommand {
      * What arguments the user actually entered after the root command to access the currently executing command
      */
     @SuppressWarnings("WeakerAccess")
-    private String[] origArgs;
+    private ArgumentCursor origArgs;
 
     /**
      * The manager this is registered to
@@ -143,6 +145,10 @@ public abstract class BaseCommand {
      * The conditions of the command. This may be null if no conditions has been provided.
      */
     @Nullable String conditions;
+    /**
+     * The budget shared by the commands of this class declared with {@link RateLimit}. This may be null if there is none.
+     */
+    @Nullable RateLimiter rateLimiter;
     /**
      * Identifies if the command has an explicit help command annotated with {@link HelpCommand}
      */
@@ -215,7 +221,7 @@ public abstract class BaseCommand {
      * @return Args
      */
     public String[] getOrigArgs() {
-        return origArgs;
+        return origArgs != null ? origArgs.array() : null;
     }
 
     /**
@@ -253,6 +259,15 @@ public abstract class BaseCommand {
         this.description = annotations.getAnnotationValue(self, Description.class, Annotations.NO_EMPTY | Annotations.REPLACEMENTS);
         this.parentSubcommand = getParentSubcommand(self);
         this.conditions = annotations.getAnnotationValue(self, Conditions.class, Annotations.REPLACEMENTS | Annotations.NO_EMPTY);
+        RateLimit rateLimit = annotations.getAnnotationFromClass(self, RateLimit.class);
+        if (rateLimit == null) {
+            this.rateLimiter = null;
+        } else if (parentCommand != null && parentCommand.rateLimiter != null && parentCommand.rateLimiter.rateLimit == rateLimit) {
+            // Inherited from the enclosing class, share its budget
+            this.rateLimiter = parentCommand.rateLimiter;
+        } else {
+            this.rateLimiter = new RateLimiter(rateLimit);
+        }
 
         computePermissions(); // Must be before any subcommands so they can inherit permissions
         registerSubcommands();
@@ -524,7 +539,7 @@ public abstract class BaseCommand {
         lastCommandOperationContext.set(null);
         execSubcommand = null;
         execLabel = null;
-        origArgs = new String[]{};
+        origArgs = new ArgumentCursor();
     }
 
     /**
@@ -538,7 +553,7 @@ public abstract class BaseCommand {
      * @return The context which is being registered to the {@link CommandManager}'s {@link
      * CommandManager#commandOperationContext thread local stack}.
      */
-    private CommandOperationContext preCommandOperation(CommandIssuer issuer, String commandLabel, String[] args, boolean isAsync) {
+    private CommandOperationContext preCommandOperation(CommandIssuer issuer, String commandLabel, ArgumentCursor args, boolean isAsync) {
         Stack<CommandOperationContext> contexts = CommandManager.commandOperationContext.get();
         CommandOperationContext context = this.manager.createCommandOperationContext(this, issuer, commandLabel, args, isAsync);
         contexts.push(context);
@@ -568,14 +583,19 @@ public abstract class BaseCommand {
     }
 
     private void executeCommand(CommandOperationContext commandOperationContext,
-                                CommandIssuer issuer, String[] args, RegisteredCommand cmd) {
+                                CommandIssuer issuer, ArgumentCursor args, RegisteredCommand cmd) {
         if (cmd.hasPermission(issuer)) {
+            long wait = cmd.rateLimiter != null ? cmd.rateLimiter.acquireExecution(issuer) : 0;
+            if (wait > 0) {
+                long seconds = TimeUnit.NANOSECONDS.toSeconds(wait + TimeUnit.SECONDS.toNanos(1) - 1);
+                issuer.sendMessage(MessageType.ERROR, MessageKeys.RATE_LIMITED, "{seconds}", Long.toString(seconds));
+                return;
+            }
             commandOperationContext.setRegisteredCommand(cmd);
             if (checkPrecommand(commandOperationContext, cmd, issuer, args)) {
                 return;
             }
-            List<String> sargs = Arrays.asList(args);
-            cmd.invoke(issuer, sargs, commandOperationContext);
+            cmd.invoke(issuer, args, commandOperationContext);
         } else {
             issuer.sendMessage(MessageType.ERROR, MessageKeys.PERMISSION_DENIED);
         }
@@ -632,14 +652,25 @@ public abstract class BaseCommand {
         try {
             CommandRouter router = manager.getRouter();
 
-            preCommandOperation(issuer, commandLabel, args, isAsync);
+            ArgumentCursor cursor = new ArgumentCursor(args);
+            preCommandOperation(issuer, commandLabel, cursor, isAsync);
 
-            final RouteSearch search = router.routeCommand(rootCommand, commandLabel, args, true);
+            final RouteSearch search = router.routeCommand(rootCommand, commandLabel, cursor, true);
 
             final List<String> cmds = new ArrayList<>();
             if (search != null) {
+                String[] searchArgs = search.args.array();
+                RateLimiter rateLimiter = null;
+                boolean allowed = true;
                 for (RegisteredCommand<?> command : search.commands) {
-                    cmds.addAll(completeCommand(issuer, command, search.args, commandLabel, isAsync));
+                    // Overloads usually share a limiter, only charge it once per request
+                    if (command.rateLimiter != rateLimiter) {
+                        rateLimiter = command.rateLimiter;
+                        allowed = rateLimiter == null || rateLimiter.tryComplete(issuer);
+                    }
+                    if (allowed) {
+                        cmds.addAll(completeCommand(issuer, command, searchArgs, commandLabel, isAsync));
+                    }
                 }
             }
 
@@ -649,6 +680,32 @@ public abstract class BaseCommand {
         }
     }
 
+    /**
+     * Gets the tab complete suggestions for a command that has already been resolved by the platform,
+     * skipping the routing of the input to a subcommand.
+     *
+     * @param issuer       The issuer of the command.
+     * @param cmd          The command to be completed.
+     * @param commandLabel The command name as entered by the user.
+     * @param args         The arguments of the command, the last one being the one to complete.
+     * @param isAsync      Whether this is run off of the main thread.
+     * @return The possibilities to tab complete in no particular order.
+     */
+    List<String> tabCompleteCommand(CommandIssuer issuer, RegisteredCommand<?> cmd, String commandLabel, String[] args, boolean isAsync) {
+        if (args.length == 0) {
+            args = new String[]{""};
+        }
+        if (cmd.rateLimiter != null && !cmd.rateLimiter.tryComplete(issuer)) {
+            return Collections.emptyList();
+        }
+        try {
+            preCommandOperation(issuer, commandLabel, new ArgumentCursor(args), isAsync);
+            return completeCommand(issuer, cmd, args, commandLabel, isAsync);
+        } finally {
+            postCommandOperation();
+        }
+    }
+
     /**
      * Gets all subcommands which are possible to tabcomplete.
      *
@@ -711,9 +768,13 @@ public abstract class BaseCommand {
      * @return All possible options. This may be empty.
      */
     private static List<String> filterTabComplete(String arg, List<String> cmds) {
+        CommandOperationContext<?> context = CommandManager.getCurrentCommandOperationContext();
+        Set<String> ranked = context != null ? context.rankedCompletions : Collections.emptySet();
         return cmds.stream()
                 .distinct()
-                .filter(cmd -> cmd != null && (arg.isEmpty() || ApacheCommonsLangUtil.startsWithIgnoreCase(cmd, arg)))
+                .filter(cmd -> cmd != null && (arg.isEmpty() || ApacheCommonsLangUtil.startsWithIgnoreCase(cmd, arg)
+                        // Substring matches kept by the ranker of a streaming completion handler
+                        || (ranked.contains(cmd) && CompletionRanker.rank(arg, cmd) != CompletionRanker.NO_MATCH)))
                 .collect(Collectors.toList());
     }
 
@@ -726,7 +787,7 @@ public abstract class BaseCommand {
      * @param args                    The arguments the issuer provided.
      * @return Whether something went wrong.
      */
-    private boolean checkPrecommand(CommandOperationContext commandOperationContext, RegisteredCommand cmd, CommandIssuer issuer, String[] args) {
+    private boolean checkPrecommand(CommandOperationContext commandOperationContext, RegisteredCommand cmd, CommandIssuer issuer, ArgumentCursor args) {
         Method pre = this.preCommandHandler;
         if (pre != null) {
             try {
@@ -742,7 +803,7 @@ public abstract class BaseCommand {
                     } else if (RegisteredCommand.class.isAssignableFrom(type)) {
                         parameters[i] = cmd;
                     } else if (String[].class.isAssignableFrom((type))) {
-                        parameters[i] = args;
+                        parameters[i] = args.array();
                     } else {
                         parameters[i] = null;
                     }
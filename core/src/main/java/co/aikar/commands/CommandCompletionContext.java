@@ -23,19 +23,25 @@
 
 package co.aikar.commands;
 
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.UUID;
 
 public class CommandCompletionContext<I extends CommandIssuer> {
+    /**
+     * How long values resolved for earlier arguments are reused across keystrokes before being resolved again.
+     */
+    private static final long RESOLUTION_REUSE_MILLIS = 3000;
+
     private final RegisteredCommand command;
     protected final I issuer;
     private final String input;
     private final String config;
     private final Map<String, String> configs = new HashMap<>();
     private final List<String> args;
+    private final String[] argsArray;
 
     CommandCompletionContext(RegisteredCommand command, I issuer, String input, String config, String[] args) {
         this.command = command;
@@ -52,7 +58,8 @@ public class CommandCompletionContext<I extends CommandIssuer> {
             this.config = null;
         }
 
-        this.args = Arrays.asList(args);
+        this.args = new ArgumentCursor(args);
+        this.argsArray = args;
     }
 
     public Map<String, String> getConfigs() {
@@ -105,8 +112,7 @@ public class CommandCompletionContext<I extends CommandIssuer> {
     }
 
     public <T> T getContextValueByName(Class<? extends T> clazz, String name) throws InvalidCommandArgument {
-        //noinspection unchecked
-        Map<String, Object> resolved = command.resolveContexts(issuer, args, name);
+        Map<String, Object> resolved = resolveContexts(name);
         if (resolved == null || !resolved.containsKey(name)) {
             ACFUtil.sneaky(new CommandCompletionTextLookupException());
         }
@@ -115,6 +121,34 @@ public class CommandCompletionContext<I extends CommandIssuer> {
         return (T) resolved.get(name);
     }
 
+    /**
+     * Resolves the arguments up to the named parameter, continuing from what was last resolved for the issuer
+     * as long as the arguments it consumed did not change since.
+     * Only players are tracked, as other issuers are not guaranteed a stable unique id.
+     */
+    private Map<String, Object> resolveContexts(String name) throws InvalidCommandArgument {
+        CommandManager<?, ?, ?, ?, ?, ?> manager = command.manager;
+        UUID issuerId = issuer.isPlayer() ? issuer.getUniqueId() : null;
+        ContextResolution last = issuerId != null ? manager.completionResolutions.get(issuerId) : null;
+        ContextResolution resolution;
+        if (last == null || last.command != command || last.getAge() > RESOLUTION_REUSE_MILLIS) {
+            resolution = ContextResolution.tracking(command, argsArray);
+        } else if (last.isFor(command, argsArray) && last.passedArgs.containsKey(name)) {
+            return last.passedArgs;
+        } else {
+            resolution = last.continueWith(argsArray);
+        }
+
+        //noinspection unchecked
+        if (!command.resolveContexts(issuer, resolution, name)) {
+            return null;
+        }
+        if (issuerId != null) {
+            manager.completionResolutions.put(issuerId, resolution);
+        }
+        return resolution.passedArgs;
+    }
+
     public CommandIssuer getIssuer() {
         return issuer;
     }
@@ -37,15 +37,22 @@ import java.util.Map;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 
 @SuppressWarnings({"WeakerAccess", "UnusedReturnValue"})
 public class CommandCompletions<C extends CommandCompletionContext> {
+    /**
+     * How many completions a {@link StreamingCompletionHandler} keeps unless configured otherwise with {@link #setCompletionLimit(int)}
+     */
+    public static final int DEFAULT_COMPLETION_LIMIT = 100;
     private static final String DEFAULT_ENUM_ID = "@__defaultenum__";
     private final CommandManager manager;
+    private int completionLimit = DEFAULT_COMPLETION_LIMIT;
     // TODO: use a CompletionProvider that can return a delegated Id or provide values such as enum support
     private Map<String, CommandCompletionHandler> completionMap = new HashMap<>();
     private Map<Class, String> defaultCompletions = new HashMap<>();
+    private final TypeLookup<String> defaultCompletionLookup = new TypeLookup<>(defaultCompletions, true);
 
     public CommandCompletions(CommandManager manager) {
         this.manager = manager;
@@ -115,6 +122,48 @@ public class CommandCompletions<C extends CommandCompletionContext> {
         return this.completionMap.put(prepareCompletionId(id), handler);
     }
 
+    /**
+     * Register a completion handler that streams its candidates instead of building them all.
+     * Only the best {@link #getCompletionLimit()} of them are kept, as ranked by {@link CompletionRanker}.
+     * <p>
+     * Use this for completions backed by large data sets, such as offline player names.
+     *
+     * @param id
+     * @param handler
+     * @return
+     */
+    public CommandCompletionHandler registerStreamingCompletion(String id, StreamingCompletionHandler<C> handler) {
+        return this.completionMap.put(prepareCompletionId(id), handler);
+    }
+
+    /**
+     * Register a streaming completion handler, see {@link #registerStreamingCompletion(String, StreamingCompletionHandler)},
+     * that is declared to be safe to be executed asynchronously.
+     *
+     * @param id
+     * @param handler
+     * @return
+     */
+    public CommandCompletionHandler registerAsyncStreamingCompletion(String id, AsyncStreamingCompletionHandler<C> handler) {
+        return this.completionMap.put(prepareCompletionId(id), handler);
+    }
+
+    /**
+     * @return How many completions streaming completion handlers keep at most
+     */
+    public int getCompletionLimit() {
+        return completionLimit;
+    }
+
+    /**
+     * Sets how many completions streaming completion handlers keep at most.
+     *
+     * @param completionLimit
+     */
+    public void setCompletionLimit(int completionLimit) {
+        this.completionLimit = completionLimit;
+    }
+
     /**
      * Register a static list of command completions that will never change.
      * Like @CommandCompletion, values are | (PIPE) separated.
@@ -184,6 +233,7 @@ public class CommandCompletions<C extends CommandCompletionContext> {
         for (Class clazz : classes) {
             defaultCompletions.put(clazz, id);
         }
+        defaultCompletionLookup.invalidate();
     }
 
     @NotNull
@@ -191,9 +241,22 @@ public class CommandCompletions<C extends CommandCompletionContext> {
         return (id.startsWith("@") ? "" : "@") + id.toLowerCase(Locale.ENGLISH);
     }
 
+    /**
+     * @return Index of the first ':' or '=' separating a completion id from its config, or -1
+     */
+    private static int indexOfConfig(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ':' || c == '=') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
     @NotNull
     List<String> of(RegisteredCommand cmd, CommandIssuer sender, String[] args, boolean isAsync) {
-        String[] completions = ACFPatterns.SPACE.split(cmd.complete);
+        String[] completions = ACFTokenizer.split(cmd.complete, ' ');
         final int argIndex = args.length - 1;
 
         String input = args[argIndex];
@@ -215,6 +278,11 @@ public class CommandCompletions<C extends CommandCompletionContext> {
         if (completion == null) {
             return Collections.singletonList(input);
         }
+        if (DEFAULT_ENUM_ID.equals(completion)) {
+            // Only the names matching the input, found by binary search instead of filtering them all
+            CommandOperationContext<?> ctx = CommandManager.getCurrentCommandOperationContext();
+            return ctx.enumCompletions.namesStartingWith(input);
+        }
 
         return getCompletionValues(cmd, sender, completion, args, isAsync);
     }
@@ -223,18 +291,14 @@ public class CommandCompletions<C extends CommandCompletionContext> {
         int i = 0;
         for (CommandParameter param : cmd.parameters) {
             if (param.canConsumeInput() && ++i == args.length) {
-                Class type = param.getType();
-                while (type != null) {
-                    String completion = this.defaultCompletions.get(type);
-                    if (completion != null) {
-                        return completion;
-                    }
-                    type = type.getSuperclass();
+                String completion = this.defaultCompletionLookup.get(param.getType());
+                if (completion != null) {
+                    return completion;
                 }
                 if (param.getType().isEnum()) {
                     CommandOperationContext ctx = CommandManager.getCurrentCommandOperationContext();
                     //noinspection unchecked
-                    ctx.enumCompletionValues = ACFUtil.enumNames((Class<? extends Enum<?>>) param.getType());
+                    ctx.enumCompletions = EnumLookup.of((Class<? extends Enum<?>>) param.getType());
                     return DEFAULT_ENUM_ID;
                 }
                 break;
@@ -244,9 +308,17 @@ public class CommandCompletions<C extends CommandCompletionContext> {
     }
 
     List<String> getCompletionValues(RegisteredCommand command, CommandIssuer sender, String completion, String[] args, boolean isAsync) {
+        return getCompletionValues(command, sender, completion, args, isAsync, true);
+    }
+
+    /**
+     * @param ranked Whether streaming completion handlers only provide their best {@link #getCompletionLimit()}
+     *               candidates for the input, or all of their values, as needed to validate against them.
+     */
+    List<String> getCompletionValues(RegisteredCommand command, CommandIssuer sender, String completion, String[] args, boolean isAsync, boolean ranked) {
         if (DEFAULT_ENUM_ID.equals(completion)) {
             CommandOperationContext<?> ctx = CommandManager.getCurrentCommandOperationContext();
-            return ctx.enumCompletionValues;
+            return ctx.enumCompletions.getNames();
         }
         boolean repeat = completion.startsWith("repeat@");
         if (repeat) {
@@ -257,25 +329,38 @@ public class CommandCompletions<C extends CommandCompletionContext> {
         List<String> allCompletions = new ArrayList<>();
         String input = args.length > 0 ? args[args.length - 1] : "";
 
-        for (String value : ACFPatterns.PIPE.split(completion)) {
-            String[] complete = ACFPatterns.COLONEQUALS.split(value, 2);
-            CommandCompletionHandler handler = this.completionMap.get(complete[0].toLowerCase(Locale.ENGLISH));
+        for (String value : ACFTokenizer.split(completion, '|')) {
+            int configStart = indexOfConfig(value);
+            String id = configStart == -1 ? value : value.substring(0, configStart);
+            CommandCompletionHandler handler = this.completionMap.get(id.toLowerCase(Locale.ENGLISH));
             if (handler != null) {
                 if (isAsync && !(handler instanceof AsyncCommandCompletionHandler)) {
                     ACFUtil.sneaky(new SyncCompletionRequired());
                     return null;
                 }
-                String config = complete.length == 1 ? null : complete[1];
+                String config = configStart == -1 ? null : value.substring(configStart + 1);
                 CommandCompletionContext context = manager.createCompletionContext(command, sender, input, config, args);
 
                 try {
-                    //noinspection unchecked
-                    Collection<String> completions = handler.getCompletions(context);
+                    Collection<String> completions;
+                    boolean streaming = handler instanceof StreamingCompletionHandler;
+                    if (streaming && ranked) {
+                        //noinspection unchecked
+                        completions = ((StreamingCompletionHandler) handler).getCompletions(context, completionLimit);
+                    } else if (streaming) {
+                        //noinspection unchecked
+                        try (Stream<String> values = ((StreamingCompletionHandler) handler).streamCompletions(context, "", Integer.MAX_VALUE)) {
+                            completions = values.collect(Collectors.toList());
+                        }
+                    } else {
+                        //noinspection unchecked
+                        completions = handler.getCompletions(context);
+                    }
 
                     //Handle completions with more than one word:
                     if (!repeat && completions != null
                             && command.parameters[command.parameters.length - 1].consumesRest
-                            && args.length > ACFPatterns.SPACE.split(command.complete).length) {
+                            && args.length > ACFTokenizer.count(command.complete, ' ')) {
                         String start = String.join(" ", args);
                         completions = completions.stream()
                                 .map(s -> {
@@ -290,6 +375,12 @@ public class CommandCompletions<C extends CommandCompletionContext> {
 
                     if (completions != null) {
                         allCompletions.addAll(completions);
+                        if (streaming && ranked) {
+                            CommandOperationContext<?> ctx = CommandManager.getCurrentCommandOperationContext();
+                            if (ctx != null) {
+                                ctx.rankedCompletions.addAll(completions);
+                            }
+                        }
                         continue;
                     }
                     //noinspection ConstantIfStatement,ConstantConditions
@@ -318,6 +409,34 @@ public class CommandCompletions<C extends CommandCompletionContext> {
     public interface AsyncCommandCompletionHandler<C extends CommandCompletionContext> extends CommandCompletionHandler<C> {
     }
 
+    public interface StreamingCompletionHandler<C extends CommandCompletionContext> extends CommandCompletionHandler<C> {
+        /**
+         * Streams the completion candidates. The stream is consumed lazily and abandoned once {@code limit} candidates
+         * starting with the input were found, so it should not be built from a materialized collection when avoidable.
+         *
+         * @param context The completion context
+         * @param prefix  What the issuer typed of the argument so far
+         * @param limit   How many completions will be kept at most
+         * @return The candidates, in any order. They do not need to be filtered by the prefix.
+         */
+        Stream<String> streamCompletions(C context, String prefix, int limit) throws InvalidCommandArgument;
+
+        @Override
+        default Collection<String> getCompletions(C context) throws InvalidCommandArgument {
+            return getCompletions(context, context.getIssuer().getManager().getCommandCompletions().getCompletionLimit());
+        }
+
+        default List<String> getCompletions(C context, int limit) throws InvalidCommandArgument {
+            String prefix = context.getInput();
+            try (Stream<String> candidates = streamCompletions(context, prefix, limit)) {
+                return CompletionRanker.top(candidates.iterator(), prefix, limit);
+            }
+        }
+    }
+
+    public interface AsyncStreamingCompletionHandler<C extends CommandCompletionContext> extends StreamingCompletionHandler<C>, AsyncCommandCompletionHandler<C> {
+    }
+
     public static class SyncCompletionRequired extends RuntimeException {
     }
 
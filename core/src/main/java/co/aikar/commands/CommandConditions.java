@@ -75,9 +75,14 @@ public class CommandConditions<
 
         conditions = this.manager.getCommandReplacements().replace(conditions);
         CommandIssuer issuer = context.getCommandIssuer();
-        for (String cond : ACFPatterns.PIPE.split(conditions)) {
-            String[] split = ACFPatterns.COLON.split(cond, 2);
-            String id = split[0].toLowerCase(Locale.ENGLISH);
+        ACFTokenizer conds = new ACFTokenizer(conditions, '|');
+        while (conds.next()) {
+            if (conds.length() == 0) {
+                continue;
+            }
+            String cond = conds.token();
+            int colon = cond.indexOf(':');
+            String id = (colon == -1 ? cond : cond.substring(0, colon)).toLowerCase(Locale.ENGLISH);
             Condition<I> condition = this.conditions.get(id);
             if (condition == null) {
                 RegisteredCommand cmd = context.getRegisteredCommand();
@@ -85,7 +90,7 @@ public class CommandConditions<
                 continue;
             }
 
-            String config = split.length == 2 ? split[1] : null;
+            String config = colon == -1 ? null : cond.substring(colon + 1);
             //noinspection unchecked
             CC conditionContext = (CC) this.manager.createConditionContext(issuer, config);
             condition.validateCondition(conditionContext);
@@ -99,11 +104,16 @@ public class CommandConditions<
         }
         conditions = this.manager.getCommandReplacements().replace(conditions);
         I issuer = execContext.getIssuer();
-        for (String cond : ACFPatterns.PIPE.split(conditions)) {
-            String[] split = ACFPatterns.COLON.split(cond, 2);
+        ACFTokenizer conds = new ACFTokenizer(conditions, '|');
+        while (conds.next()) {
+            if (conds.length() == 0) {
+                continue;
+            }
+            String cond = conds.token();
+            int colon = cond.indexOf(':');
             ParameterCondition condition;
             Class<?> cls = execContext.getParam().getType();
-            String id = split[0].toLowerCase(Locale.ENGLISH);
+            String id = (colon == -1 ? cond : cond.substring(0, colon)).toLowerCase(Locale.ENGLISH);
             do {
                 condition = this.paramConditions.get(cls, id);
                 if (condition == null && cls.getSuperclass() != null && cls.getSuperclass() != Object.class) {
@@ -119,7 +129,7 @@ public class CommandConditions<
                 this.manager.log(LogLevel.ERROR, "Could not find command condition " + id + " for " + cmd.method.getName() + "::" + execContext.getParam().getName());
                 continue;
             }
-            String config = split.length == 2 ? split[1] : null;
+            String config = colon == -1 ? null : cond.substring(colon + 1);
             //noinspection unchecked
             CC conditionContext = (CC) this.manager.createConditionContext(issuer, config);
 
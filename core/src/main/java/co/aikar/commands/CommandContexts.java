@@ -35,12 +35,17 @@ import org.jetbrains.annotations.NotNull;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
 
 @SuppressWarnings("WeakerAccess")
 public class CommandContexts<R extends CommandExecutionContext<?, ? extends CommandIssuer>> {
     protected final Map<Class<?>, ContextResolver<?, R>> contextMap = new HashMap<>();
+    private final TypeLookup<ContextResolver<?, R>> resolverLookup = new TypeLookup<>(contextMap, false);
+    private final Map<ContextResolver<?, R>, BiPredicate<Class<?>, String>> argumentPredicates = new IdentityHashMap<>();
     protected final CommandManager manager;
 
     CommandContexts(CommandManager manager) {
@@ -49,7 +54,7 @@ public class CommandContexts<R extends CommandExecutionContext<?, ? extends Comm
         registerContext(Short.class, (c) -> {
             String number = c.popFirstArg();
             try {
-                return parseAndValidateNumber(number, c, Short.MIN_VALUE, Short.MAX_VALUE).shortValue();
+                return (short) parseAndValidateLong(number, c, Short.MIN_VALUE, Short.MAX_VALUE);
             } catch (NumberFormatException e) {
                 throw new InvalidCommandArgument(MessageKeys.MUST_BE_A_NUMBER, "{num}", number);
             }
@@ -57,7 +62,7 @@ public class CommandContexts<R extends CommandExecutionContext<?, ? extends Comm
         registerContext(short.class, (c) -> {
             String number = c.popFirstArg();
             try {
-                return parseAndValidateNumber(number, c, Short.MIN_VALUE, Short.MAX_VALUE).shortValue();
+                return (short) parseAndValidateLong(number, c, Short.MIN_VALUE, Short.MAX_VALUE);
             } catch (NumberFormatException e) {
                 throw new InvalidCommandArgument(MessageKeys.MUST_BE_A_NUMBER, "{num}", number);
             }
@@ -65,7 +70,7 @@ public class CommandContexts<R extends CommandExecutionContext<?, ? extends Comm
         registerContext(Integer.class, (c) -> {
             String number = c.popFirstArg();
             try {
-                return parseAndValidateNumber(number, c, Integer.MIN_VALUE, Integer.MAX_VALUE).intValue();
+                return (int) parseAndValidateLong(number, c, Integer.MIN_VALUE, Integer.MAX_VALUE);
             } catch (NumberFormatException e) {
                 throw new InvalidCommandArgument(MessageKeys.MUST_BE_A_NUMBER, "{num}", number);
             }
@@ -73,7 +78,7 @@ public class CommandContexts<R extends CommandExecutionContext<?, ? extends Comm
         registerContext(int.class, (c) -> {
             String number = c.popFirstArg();
             try {
-                return parseAndValidateNumber(number, c, Integer.MIN_VALUE, Integer.MAX_VALUE).intValue();
+                return (int) parseAndValidateLong(number, c, Integer.MIN_VALUE, Integer.MAX_VALUE);
             } catch (NumberFormatException e) {
                 throw new InvalidCommandArgument(MessageKeys.MUST_BE_A_NUMBER, "{num}", number);
             }
@@ -81,7 +86,7 @@ public class CommandContexts<R extends CommandExecutionContext<?, ? extends Comm
         registerContext(Long.class, (c) -> {
             String number = c.popFirstArg();
             try {
-                return parseAndValidateNumber(number, c, Long.MIN_VALUE, Long.MAX_VALUE).longValue();
+                return parseAndValidateLong(number, c, Long.MIN_VALUE, Long.MAX_VALUE);
             } catch (NumberFormatException e) {
                 throw new InvalidCommandArgument(MessageKeys.MUST_BE_A_NUMBER, "{num}", number);
             }
@@ -89,7 +94,7 @@ public class CommandContexts<R extends CommandExecutionContext<?, ? extends Comm
         registerContext(long.class, (c) -> {
             String number = c.popFirstArg();
             try {
-                return parseAndValidateNumber(number, c, Long.MIN_VALUE, Long.MAX_VALUE).longValue();
+                return parseAndValidateLong(number, c, Long.MIN_VALUE, Long.MAX_VALUE);
             } catch (NumberFormatException e) {
                 throw new InvalidCommandArgument(MessageKeys.MUST_BE_A_NUMBER, "{num}", number);
             }
@@ -97,7 +102,7 @@ public class CommandContexts<R extends CommandExecutionContext<?, ? extends Comm
         registerContext(Float.class, (c) -> {
             String number = c.popFirstArg();
             try {
-                return parseAndValidateNumber(number, c, -Float.MAX_VALUE, Float.MAX_VALUE).floatValue();
+                return (float) parseAndValidateDouble(number, c, -Float.MAX_VALUE, Float.MAX_VALUE);
             } catch (NumberFormatException e) {
                 throw new InvalidCommandArgument(MessageKeys.MUST_BE_A_NUMBER, "{num}", number);
             }
@@ -105,7 +110,7 @@ public class CommandContexts<R extends CommandExecutionContext<?, ? extends Comm
         registerContext(float.class, (c) -> {
             String number = c.popFirstArg();
             try {
-                return parseAndValidateNumber(number, c, -Float.MAX_VALUE, Float.MAX_VALUE).floatValue();
+                return (float) parseAndValidateDouble(number, c, -Float.MAX_VALUE, Float.MAX_VALUE);
             } catch (NumberFormatException e) {
                 throw new InvalidCommandArgument(MessageKeys.MUST_BE_A_NUMBER, "{num}", number);
             }
@@ -113,7 +118,7 @@ public class CommandContexts<R extends CommandExecutionContext<?, ? extends Comm
         registerContext(Double.class, (c) -> {
             String number = c.popFirstArg();
             try {
-                return parseAndValidateNumber(number, c, -Double.MAX_VALUE, Double.MAX_VALUE).doubleValue();
+                return parseAndValidateDouble(number, c, -Double.MAX_VALUE, Double.MAX_VALUE);
             } catch (NumberFormatException e) {
                 throw new InvalidCommandArgument(MessageKeys.MUST_BE_A_NUMBER, "{num}", number);
             }
@@ -121,7 +126,7 @@ public class CommandContexts<R extends CommandExecutionContext<?, ? extends Comm
         registerContext(double.class, (c) -> {
             String number = c.popFirstArg();
             try {
-                return parseAndValidateNumber(number, c, -Double.MAX_VALUE, Double.MAX_VALUE).doubleValue();
+                return parseAndValidateDouble(number, c, -Double.MAX_VALUE, Double.MAX_VALUE);
             } catch (NumberFormatException e) {
                 throw new InvalidCommandArgument(MessageKeys.MUST_BE_A_NUMBER, "{num}", number);
             }
@@ -215,13 +220,19 @@ public class CommandContexts<R extends CommandExecutionContext<?, ? extends Comm
             final String first = c.popFirstArg();
             //noinspection unchecked
             Class<? extends Enum<?>> enumCls = (Class<? extends Enum<?>>) c.getParam().getType();
-            Enum<?> match = ACFUtil.simpleMatch(enumCls, first);
+            EnumLookup lookup = EnumLookup.of(enumCls);
+            Enum<?> match = lookup.match(first);
             if (match == null) {
-                List<String> names = ACFUtil.enumNames(enumCls);
-                throw new InvalidCommandArgument(MessageKeys.PLEASE_SPECIFY_ONE_OF, "{valid}", ACFUtil.join(names, ", "));
+                throw new InvalidCommandArgument(MessageKeys.PLEASE_SPECIFY_ONE_OF, "{valid}", lookup.getJoinedNames());
             }
             return match;
         });
+        for (Class<?> type : new Class[]{Short.class, short.class, Integer.class, int.class, Long.class, long.class,
+                Float.class, float.class, Double.class, double.class, Number.class, BigDecimal.class, BigInteger.class}) {
+            registerArgumentPredicate(type, NumberLexer::isNumber);
+        }
+        //noinspection unchecked
+        argumentPredicates.put(contextMap.get(Enum.class), (type, input) -> EnumLookup.of((Class<? extends Enum<?>>) type).match(input) != null);
         registerOptionalContext(CommandHelp.class, (c) -> {
             String first = c.getFirstArg();
             String last = c.getLastArg();
@@ -269,23 +280,43 @@ public class CommandContexts<R extends CommandExecutionContext<?, ? extends Comm
     }
 
     @NotNull
-    private Number parseAndValidateNumber(String number, R c, Number minValue, Number maxValue) throws InvalidCommandArgument {
-        final Number val = ACFUtil.parseNumber(number, c.hasFlag("suffixes"));
+    private Number parseAndValidateNumber(String number, R c, double minValue, double maxValue) throws InvalidCommandArgument {
+        final Number val = NumberLexer.parse(number, c.hasFlag("suffixes"));
+        validateMinMax(c, val.doubleValue(), minValue, maxValue);
+        return val;
+    }
+
+    private long parseAndValidateLong(String number, R c, double minValue, double maxValue) throws InvalidCommandArgument {
+        final int radix = NumberLexer.radix(number);
+        if (radix != 10) {
+            final long val = NumberLexer.parseRadix(number, radix);
+            validateMinMax(c, val, minValue, maxValue);
+            return val;
+        }
+        final double val = NumberLexer.parseDecimal(number, c.hasFlag("suffixes"));
+        validateMinMax(c, val, minValue, maxValue);
+        return (long) val;
+    }
+
+    private double parseAndValidateDouble(String number, R c, double minValue, double maxValue) throws InvalidCommandArgument {
+        final int radix = NumberLexer.radix(number);
+        final double val = radix != 10 ? NumberLexer.parseRadix(number, radix) : NumberLexer.parseDecimal(number, c.hasFlag("suffixes"));
         validateMinMax(c, val, minValue, maxValue);
         return val;
     }
 
     private void validateMinMax(R c, Number val) throws InvalidCommandArgument {
-        validateMinMax(c, val, null, null);
+        validateMinMax(c, val.doubleValue(), Double.NaN, Double.NaN);
     }
 
-    private void validateMinMax(R c, Number val, Number minValue, Number maxValue) throws InvalidCommandArgument {
-        minValue = c.getFlagValue("min", minValue);
-        maxValue = c.getFlagValue("max", maxValue);
-        if (maxValue != null && val.doubleValue() > maxValue.doubleValue()) {
+    private void validateMinMax(R c, double val, double minValue, double maxValue) throws InvalidCommandArgument {
+        final CommandParameter param = c.getCommandParameter();
+        minValue = param.getMinValue(minValue);
+        maxValue = param.getMaxValue(maxValue);
+        if (val > maxValue) {
             throw new InvalidCommandArgument(MessageKeys.PLEASE_SPECIFY_AT_MOST, "{max}", String.valueOf(maxValue));
         }
-        if (minValue != null && val.doubleValue() < minValue.doubleValue()) {
+        if (val < minValue) {
             throw new InvalidCommandArgument(MessageKeys.PLEASE_SPECIFY_AT_LEAST, "{min}", String.valueOf(minValue));
         }
     }
@@ -299,6 +330,7 @@ public class CommandContexts<R extends CommandExecutionContext<?, ? extends Comm
     @Deprecated
     public <T> void registerSenderAwareContext(Class<T> context, IssuerAwareContextResolver<T, R> supplier) {
         contextMap.put(context, supplier);
+        resolverLookup.invalidate();
     }
 
     /**
@@ -309,6 +341,7 @@ public class CommandContexts<R extends CommandExecutionContext<?, ? extends Comm
      */
     public <T> void registerIssuerAwareContext(Class<T> context, IssuerAwareContextResolver<T, R> supplier) {
         contextMap.put(context, supplier);
+        resolverLookup.invalidate();
     }
 
     /**
@@ -317,6 +350,7 @@ public class CommandContexts<R extends CommandExecutionContext<?, ? extends Comm
      */
     public <T> void registerIssuerOnlyContext(Class<T> context, IssuerOnlyContextResolver<T, R> supplier) {
         contextMap.put(context, supplier);
+        resolverLookup.invalidate();
     }
 
     /**
@@ -325,6 +359,7 @@ public class CommandContexts<R extends CommandExecutionContext<?, ? extends Comm
      */
     public <T> void registerOptionalContext(Class<T> context, OptionalContextResolver<T, R> supplier) {
         contextMap.put(context, supplier);
+        resolverLookup.invalidate();
     }
 
     /**
@@ -333,22 +368,56 @@ public class CommandContexts<R extends CommandExecutionContext<?, ? extends Comm
      */
     public <T> void registerContext(Class<T> context, ContextResolver<T, R> supplier) {
         contextMap.put(context, supplier);
+        resolverLookup.invalidate();
     }
 
-    public ContextResolver<?, R> getResolver(Class<?> type) {
-        Class<?> rootType = type;
-        do {
-            if (type == Object.class) {
-                break;
-            }
+    /**
+     * Registers a cheap check of whether input could be resolved by the context resolver currently registered
+     * for the type, without resolving it. Among overloads of a command that take as much input, the first one
+     * whose parameters accept the input is picked.
+     * <p>
+     * The predicate may accept input the resolver ends up rejecting, but must never reject input it would accept.
+     * It is tied to the current resolver, so it no longer applies once another resolver is registered for the type.
+     *
+     * @param context   The type the resolver was registered for.
+     * @param predicate Tests the single argument the resolver would consume.
+     */
+    public <T> void registerArgumentPredicate(Class<T> context, Predicate<String> predicate) {
+        ContextResolver<?, R> resolver = contextMap.get(context);
+        if (resolver == null) {
+            throw new IllegalStateException("No context resolver registered for " + context.getName());
+        }
+        argumentPredicates.put(resolver, (type, input) -> predicate.test(input));
+    }
 
-            final ContextResolver<?, R> resolver = contextMap.get(type);
-            if (resolver != null) {
-                return resolver;
-            }
-        } while ((type = type.getSuperclass()) != null);
+    /**
+     * @return The check registered for the resolver of the parameter, or null if any input may be accepted.
+     */
+    BiPredicate<Class<?>, String> getArgumentPredicate(CommandParameter<?> param) {
+        return argumentPredicates.get(param.getResolver());
+    }
+
+    /**
+     * Resolvers are looked up through a cache of which registered type applies to each parameter type.
+     * Subclasses that change {@link #contextMap} directly rather than through the register methods must call
+     * this afterwards, or a replaced resolver may keep being returned for types that were already looked up.
+     */
+    protected void invalidateResolvers() {
+        resolverLookup.invalidate();
+    }
+
+    public ContextResolver<?, R> getResolver(Class<?> type) {
+        ContextResolver<?, R> resolver = resolverLookup.get(type);
+        if (resolver == null) {
+            // The miss may predate a resolver put straight into contextMap, so look again before giving up
+            resolverLookup.invalidate();
+            resolver = resolverLookup.get(type);
+        }
+        if (resolver != null) {
+            return resolver;
+        }
 
-        this.manager.log(LogLevel.ERROR, "Could not find context resolver", new IllegalStateException("No context resolver defined for " + rootType.getName()));
+        this.manager.log(LogLevel.ERROR, "Could not find context resolver", new IllegalStateException("No context resolver defined for " + type.getName()));
         return null;
     }
 }
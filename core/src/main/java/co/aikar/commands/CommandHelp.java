@@ -26,19 +26,34 @@ package co.aikar.commands;
 import com.google.common.collect.SetMultimap;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 @SuppressWarnings("WeakerAccess")
 public class CommandHelp {
+    private static final int MAX_CACHED_PAGES = 1024;
+
     private final CommandManager manager;
+    private final RootCommand rootCommand;
+    /**
+     * Which of the root command's candidate entries the issuer can see, used as the permission part of the cache key
+     */
+    private final BitSet visibleEntries = new BitSet();
     private final CommandIssuer issuer;
     private final List<HelpEntry> helpEntries = new ArrayList<>();
+    /**
+     * The entries as built from the root command, to tell whether {@link #getHelpEntries()} was modified since
+     */
+    private final HelpEntry[] builtEntries;
     private final String commandName;
     final String commandPrefix;
     private int page = 1;
@@ -55,6 +70,7 @@ public class CommandHelp {
         this.perPage = manager.defaultHelpPerPage;
         this.commandPrefix = manager.getCommandPrefix(issuer);
         this.commandName = rootCommand.getCommandName();
+        this.rootCommand = rootCommand;
 
 
         SetMultimap<String, RegisteredCommand> subCommands = rootCommand.getSubCommands();
@@ -68,6 +84,7 @@ public class CommandHelp {
             }
         }
 
+        Set<RegisteredCommand> candidates = new HashSet<>();
         subCommands.entries().forEach(e -> {
             String key = e.getKey();
             if (key.equals(BaseCommand.DEFAULT) || key.equals(BaseCommand.CATCHUNKNOWN)) {
@@ -75,12 +92,18 @@ public class CommandHelp {
             }
 
             RegisteredCommand regCommand = e.getValue();
+            if (regCommand.isPrivate || !candidates.add(regCommand)) {
+                return;
+            }
+            int index = candidates.size() - 1;
 
-            if (!regCommand.isPrivate && regCommand.hasPermission(issuer) && !seen.contains(regCommand)) {
+            if (regCommand.hasPermission(issuer) && !seen.contains(regCommand)) {
                 this.helpEntries.add(new HelpEntry(this, regCommand));
+                this.visibleEntries.set(index);
                 seen.add(regCommand);
             }
         });
+        this.builtEntries = helpEntries.toArray(new HelpEntry[0]);
     }
 
     @UnstableAPI // Not sure on this one yet even when API becomes unstable
@@ -136,6 +159,57 @@ public class CommandHelp {
     }
 
     public void showHelp(CommandIssuer issuer) {
+        try (MessageBatch batch = manager.batchMessages(issuer)) {
+            CacheKey key = batch != MessageBatch.NONE ? getCacheKey(issuer) : null;
+            if (key == null) {
+                printHelp(issuer);
+                return;
+            }
+
+            //noinspection unchecked
+            Map<CacheKey, RenderedHelp> cache = manager.helpCache;
+            RenderedHelp rendered = cache.get(key);
+            if (rendered != null) {
+                this.totalResults = rendered.totalResults;
+                this.totalPages = rendered.totalPages;
+                this.lastPage = rendered.lastPage;
+                batch.addLines(rendered.lines);
+                return;
+            }
+
+            int start = batch.lineCount();
+            printHelp(issuer);
+            if (cache.size() >= MAX_CACHED_PAGES) {
+                cache.clear();
+            }
+            cache.put(key, new RenderedHelp(batch.copyLines(start), totalResults, totalPages, lastPage));
+        }
+    }
+
+    /**
+     * The output of a plain listing only depends on the root command, locale, visible entries and page,
+     * anything else (searches, exact matches, custom entries or formatters) is always rendered.
+     */
+    private CacheKey getCacheKey(CommandIssuer issuer) {
+        CommandHelpFormatter formatter = manager.getHelpFormatter();
+        if (issuer != this.issuer || search != null || !selectedEntry.isEmpty() || !formatter.isCacheable()) {
+            return null;
+        }
+        if (helpEntries.size() != builtEntries.length) {
+            return null;
+        }
+        for (int i = 0; i < builtEntries.length; i++) {
+            HelpEntry entry = helpEntries.get(i);
+            if (entry != builtEntries[i] || entry.getSearchScore() != 1) {
+                return null;
+            }
+        }
+        MessageFormatter<?> helpFormat = manager.getFormat(MessageType.HELP);
+        return new CacheKey(rootCommand, manager.getIssuerLocale(issuer), commandPrefix, page, perPage, visibleEntries,
+                formatter, helpFormat, helpFormat != null ? helpFormat.version : 0);
+    }
+
+    private void printHelp(CommandIssuer issuer) {
         CommandHelpFormatter formatter = manager.getHelpFormatter();
         if (!selectedEntry.isEmpty()) {
             HelpEntry first = ACFUtil.getFirstElement(selectedEntry);
@@ -253,4 +327,68 @@ public class CommandHelp {
     public boolean isLastPage() {
         return lastPage;
     }
+
+    static final class CacheKey {
+        private final RootCommand rootCommand;
+        private final Locale locale;
+        private final String commandPrefix;
+        private final int page;
+        private final int perPage;
+        private final BitSet visibleEntries;
+        private final CommandHelpFormatter formatter;
+        private final MessageFormatter<?> helpFormat;
+        private final int helpFormatVersion;
+
+        CacheKey(RootCommand rootCommand, Locale locale, String commandPrefix, int page, int perPage, BitSet visibleEntries,
+                 CommandHelpFormatter formatter, MessageFormatter<?> helpFormat, int helpFormatVersion) {
+            this.rootCommand = rootCommand;
+            this.locale = locale;
+            this.commandPrefix = commandPrefix;
+            this.page = page;
+            this.perPage = perPage;
+            this.visibleEntries = visibleEntries;
+            this.formatter = formatter;
+            this.helpFormat = helpFormat;
+            this.helpFormatVersion = helpFormatVersion;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            CacheKey other = (CacheKey) o;
+            return page == other.page
+                    && perPage == other.perPage
+                    && helpFormatVersion == other.helpFormatVersion
+                    && rootCommand == other.rootCommand
+                    && formatter == other.formatter
+                    && helpFormat == other.helpFormat
+                    && Objects.equals(locale, other.locale)
+                    && Objects.equals(commandPrefix, other.commandPrefix)
+                    && visibleEntries.equals(other.visibleEntries);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(System.identityHashCode(rootCommand), locale, commandPrefix, page, perPage, visibleEntries, helpFormatVersion);
+        }
+    }
+
+    static final class RenderedHelp {
+        private final List<String> lines;
+        private final int totalResults;
+        private final int totalPages;
+        private final boolean lastPage;
+
+        RenderedHelp(List<String> lines, int totalResults, int totalPages, boolean lastPage) {
+            this.lines = lines;
+            this.totalResults = totalResults;
+            this.totalPages = totalPages;
+            this.lastPage = lastPage;
+        }
+    }
 }
@@ -36,6 +36,16 @@ public class CommandHelpFormatter {
     }
 
 
+    /**
+     * Whether the output of this formatter only depends on the root command, the issuer's locale, which commands
+     * the issuer can see and the page, allowing it to be cached. Custom formatters fitting this may override it.
+     *
+     * @return Whether help pages rendered by this formatter can be cached.
+     */
+    public boolean isCacheable() {
+        return getClass() == CommandHelpFormatter.class;
+    }
+
     public void showAllResults(CommandHelp commandHelp, List<HelpEntry> entries) {
         CommandIssuer issuer = commandHelp.getIssuer();
         printHelpHeader(commandHelp, issuer);
@@ -79,9 +89,7 @@ public class CommandHelpFormatter {
 
     public void printHelpCommand(CommandHelp help, CommandIssuer issuer, HelpEntry entry) {
         String formatted = this.manager.formatMessage(issuer, MessageType.HELP, MessageKeys.HELP_FORMAT, getEntryFormatReplacements(help, entry));
-        for (String msg : ACFPatterns.NEWLINE.split(formatted)) {
-            issuer.sendMessageInternal(ACFUtil.rtrim(msg));
-        }
+        this.manager.sendFormattedMessage(issuer, formatted);
     }
 
     public void printHelpFooter(CommandHelp help, CommandIssuer issuer) {
@@ -101,9 +109,7 @@ public class CommandHelpFormatter {
 
     public void printSearchEntry(CommandHelp help, CommandIssuer issuer, HelpEntry page) {
         String formatted = this.manager.formatMessage(issuer, MessageType.HELP, MessageKeys.HELP_FORMAT, getEntryFormatReplacements(help, page));
-        for (String msg : ACFPatterns.NEWLINE.split(formatted)) {
-            issuer.sendMessageInternal(ACFUtil.rtrim(msg));
-        }
+        this.manager.sendFormattedMessage(issuer, formatted);
     }
 
     public void printSearchFooter(CommandHelp help, CommandIssuer issuer) {
@@ -128,16 +134,12 @@ public class CommandHelpFormatter {
 
     public void printDetailedHelpCommand(CommandHelp help, CommandIssuer issuer, HelpEntry entry) {
         String formatted = this.manager.formatMessage(issuer, MessageType.HELP, MessageKeys.HELP_DETAILED_COMMAND_FORMAT, getEntryFormatReplacements(help, entry));
-        for (String msg : ACFPatterns.NEWLINE.split(formatted)) {
-            issuer.sendMessageInternal(ACFUtil.rtrim(msg));
-        }
+        this.manager.sendFormattedMessage(issuer, formatted);
     }
 
     public void printDetailedParameter(CommandHelp help, CommandIssuer issuer, HelpEntry entry, CommandParameter param) {
         String formattedMsg = this.manager.formatMessage(issuer, MessageType.HELP, MessageKeys.HELP_DETAILED_PARAMETER_FORMAT, getParameterFormatReplacements(help, param, entry));
-        for (String msg : ACFPatterns.NEWLINE.split(formattedMsg)) {
-            issuer.sendMessageInternal(ACFUtil.rtrim(msg));
-        }
+        this.manager.sendFormattedMessage(issuer, formattedMsg);
     }
 
     public void printDetailedHelpFooter(CommandHelp help, CommandIssuer issuer, HelpEntry entry) {
@@ -27,6 +27,7 @@ import co.aikar.locales.MessageKey;
 import co.aikar.locales.MessageKeyProvider;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.List;
 import java.util.UUID;
 
 public interface CommandIssuer {
@@ -96,4 +97,18 @@ public interface CommandIssuer {
      */
     @Deprecated
     void sendMessageInternal(String message);
+
+    /**
+     * Sends multiple lines at once. Platforms able to deliver them in a single message should override this.
+     * The list is reused once this returns, so it must not be kept.
+     *
+     * @deprecated Do not call this, for internal use. Not considered part of the API and may break.
+     * @param lines
+     */
+    @Deprecated
+    default void sendMessagesInternal(List<String> lines) {
+        for (String line : lines) {
+            sendMessageInternal(line);
+        }
+    }
 }
@@ -24,11 +24,11 @@
 package co.aikar.commands;
 
 import co.aikar.commands.annotation.Dependency;
+import co.aikar.locales.MessageKey;
 import co.aikar.locales.MessageKeyProvider;
 import co.aikar.util.Table;
 import org.jetbrains.annotations.NotNull;
 
-import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
@@ -67,15 +67,25 @@ public abstract class CommandManager<
             return super.size() == 0 ? null : super.peek();
         }
     });
+    private static final ThreadLocal<MessageBatch> messageBatch = ThreadLocal.withInitial(MessageBatch::new);
+    private final Map<MessageTemplate.Key, MessageTemplate> messageTemplates = new ConcurrentHashMap<>();
+    final Map<CommandHelp.CacheKey, CommandHelp.RenderedHelp> helpCache = new ConcurrentHashMap<>();
     protected Map<String, RootCommand> rootCommands = new HashMap<>();
     protected final CommandReplacements replacements = new CommandReplacements(this);
     protected final CommandConditions<I, CEC, CC> conditions = new CommandConditions<>(this);
     protected ExceptionHandler defaultExceptionHandler = null;
     boolean logUnhandledExceptions = true;
     protected Table<Class<?>, String, Object> dependencies = new Table<>();
+    private final Map<Class<? extends BaseCommand>, DependencyInjector> dependencyInjectors = new ConcurrentHashMap<>();
+    final RegistrationBatch registrationBatch = new RegistrationBatch(this);
+    /**
+     * The last arguments each issuer resolved while completing, so the next keystroke can continue from them.
+     */
+    final BoundedCache<UUID, ContextResolution> completionResolutions = new BoundedCache<>(256);
     protected CommandHelpFormatter helpFormatter = new CommandHelpFormatter(this);
 
     protected boolean usePerIssuerLocale = false;
+    protected boolean useQuotedArguments = false;
     protected List<IssuerLocaleChangedCallback<I>> localeChangedCallbacks = new ArrayList<>();
     protected Set<Locale> supportedLanguages = new HashSet<>(Arrays.asList(Locales.ENGLISH, Locales.DUTCH, Locales.GERMAN, Locales.SPANISH, Locales.FRENCH, Locales.CZECH, Locales.PORTUGUESE, Locales.SWEDISH, Locales.NORWEGIAN_BOKMAAL, Locales.NORWEGIAN_NYNORSK, Locales.RUSSIAN, Locales.BULGARIAN, Locales.HUNGARIAN, Locales.TURKISH, Locales.JAPANESE, Locales.CHINESE, Locales.SIMPLIFIED_CHINESE, Locales.TRADITIONAL_CHINESE, Locales.KOREAN, Locales.ITALIAN));
     protected Predicate<String> validNamePredicate = name -> true;
@@ -226,6 +236,7 @@ public abstract class CommandManager<
     @UnstableAPI
     public void setHelpFormatter(CommandHelpFormatter helpFormatter) {
         this.helpFormatter = helpFormatter;
+        clearHelpCache();
     }
 
     /**
@@ -249,6 +260,30 @@ public abstract class CommandManager<
      */
     public abstract void registerCommand(BaseCommand command);
 
+    /**
+     * Registers many commands with ACF, rebuilding what is derived from the registered commands only once
+     * all of them are registered.
+     *
+     * @param commands The commands to register
+     */
+    public void registerCommands(Collection<? extends BaseCommand> commands) {
+        try (RegistrationBatch ignored = batchRegistration()) {
+            for (BaseCommand command : commands) {
+                registerCommand(command);
+            }
+        }
+    }
+
+    /**
+     * Starts deferring the work that follows registering or unregistering commands until the returned batch
+     * is closed, so it is only done once for all the changes made in between.
+     *
+     * @return The batch to close once done registering.
+     */
+    public RegistrationBatch batchRegistration() {
+        return registrationBatch.open();
+    }
+
     public abstract boolean hasRegisteredCommands();
 
     public abstract boolean isCommandIssuer(Class<?> type);
@@ -275,6 +310,41 @@ public abstract class CommandManager<
         return old;
     }
 
+    public boolean usingQuotedArguments() {
+        return useQuotedArguments;
+    }
+
+    /**
+     * Parses command input with quotes, backslash escapes and collapsed whitespace, so "quoted text" is passed as one
+     * argument, instead of splitting on every space.
+     *
+     * @param setting Whether to parse quoted arguments
+     * @return The previous setting
+     */
+    public boolean useQuotedArguments(boolean setting) {
+        boolean old = useQuotedArguments;
+        useQuotedArguments = setting;
+        return old;
+    }
+
+    /**
+     * Whether the issuer is never limited by {@link co.aikar.commands.annotation.RateLimit}.
+     * Platforms exempt the server itself, like the console. Override to exempt other issuers, such as staff.
+     *
+     * @param issuer The issuer
+     * @return Whether the issuer bypasses rate limits
+     */
+    public boolean isRateLimitExempt(CommandIssuer issuer) {
+        return false;
+    }
+
+    /**
+     * Re-parses arguments a platform split on spaces if quoted arguments are enabled.
+     */
+    String[] parseArguments(String[] args) {
+        return useQuotedArguments ? ACFTokenizer.tokenize(String.join(" ", args)) : args;
+    }
+
     public boolean isValidName(@NotNull String name) {
         return validNamePredicate.test(name);
     }
@@ -329,8 +399,9 @@ public abstract class CommandManager<
         if (permission == null || permission.isEmpty()) {
             return true;
         }
-        for (String perm : ACFPatterns.COMMA.split(permission)) {
-            if (!perm.isEmpty() && !issuer.hasPermission(perm)) {
+        ACFTokenizer perms = new ACFTokenizer(permission, ',');
+        while (perms.next()) {
+            if (perms.length() > 0 && !issuer.hasPermission(perms.token())) {
                 return false;
             }
         }
@@ -338,11 +409,11 @@ public abstract class CommandManager<
     }
 
     public synchronized RootCommand getRootCommand(@NotNull String cmd) {
-        return rootCommands.get(ACFPatterns.SPACE.split(cmd.toLowerCase(Locale.ENGLISH), 2)[0]);
+        return rootCommands.get(ACFTokenizer.first(cmd.toLowerCase(Locale.ENGLISH), ' '));
     }
 
     public synchronized RootCommand obtainRootCommand(@NotNull String cmd) {
-        return rootCommands.computeIfAbsent(ACFPatterns.SPACE.split(cmd.toLowerCase(Locale.ENGLISH), 2)[0], this::createRootCommand);
+        return rootCommands.computeIfAbsent(ACFTokenizer.first(cmd.toLowerCase(Locale.ENGLISH), ' '), this::createRootCommand);
     }
 
     public abstract Collection<RootCommand> getRegisteredRootCommands();
@@ -410,11 +481,115 @@ public abstract class CommandManager<
     }
 
     public void sendMessage(CommandIssuer issuer, MessageType type, MessageKeyProvider key, String... replacements) {
-        String message = formatMessage(issuer, type, key, replacements);
+        if (!messageBatch.get().isCollecting(issuer) && sendComponentMessage(issuer, type, key, replacements)) {
+            return;
+        }
+        sendFormattedMessage(issuer, formatMessage(issuer, type, key, replacements));
+    }
+
+    /**
+     * Sends an already formatted message, which may contain multiple lines, to the issuer.
+     * If a batch is open for the issuer, the lines are added to it instead.
+     *
+     * @param issuer  The issuer to send the message to.
+     * @param message The formatted message.
+     */
+    public void sendFormattedMessage(CommandIssuer issuer, String message) {
+        try (MessageBatch batch = batchMessages(issuer)) {
+            batch.append(issuer, message);
+        }
+    }
+
+    /**
+     * Lets platforms supporting rich text components send a message without formatting it to a string first.
+     *
+     * @return Whether the message was sent, if not it is formatted and sent as a string instead.
+     * @see ComponentMessageRenderer
+     */
+    boolean sendComponentMessage(CommandIssuer issuer, MessageType type, MessageKeyProvider key, String... replacements) {
+        return false;
+    }
 
-        for (String msg : ACFPatterns.NEWLINE.split(message)) {
-            issuer.sendMessageInternal(ACFUtil.rtrim(msg));
+    /**
+     * Gets the compiled template of a message for the issuer's locale, compiling it on first use.
+     *
+     * @param issuer The issuer the message is for.
+     * @param type   The type of the message.
+     * @param key    The key of the message.
+     * @return The compiled template.
+     */
+    public MessageTemplate getMessageTemplate(CommandIssuer issuer, MessageType type, MessageKeyProvider key) {
+        MessageKey msgKey = key.getMessageKey();
+        MessageTemplate.Key templateKey = new MessageTemplate.Key(getIssuerLocale(issuer), msgKey, type);
+        MessageTemplate template = messageTemplates.get(templateKey);
+        if (template == null) {
+            String message = getLocales().getMessage(issuer, msgKey);
+            message = getCommandReplacements().replace(message);
+            message = getLocales().replaceI18NStrings(message);
+            template = MessageTemplate.compile(message);
+            messageTemplates.put(templateKey, template);
         }
+        return template;
+    }
+
+    /**
+     * Discards all compiled message templates, to be called whenever messages or replacements change.
+     */
+    public void clearMessageTemplates() {
+        messageTemplates.clear();
+    }
+
+    /**
+     * Discards all rendered help pages, to be called whenever the commands of a root command change.
+     */
+    public void clearHelpCache() {
+        helpCache.clear();
+    }
+
+    /**
+     * Called whenever the commands of a root command change, discarding everything derived from them.
+     */
+    void invalidateCommands() {
+        if (registrationBatch.deferInvalidation()) {
+            return;
+        }
+        router.clearIndexes();
+        clearHelpCache();
+        onCommandsInvalidated();
+    }
+
+    /**
+     * Called after the command indexes were discarded, for platforms to discard what they derived from them.
+     * Not called while a {@link RegistrationBatch} is open, only once it commits.
+     */
+    void onCommandsInvalidated() {
+    }
+
+    /**
+     * Called once the outermost {@link RegistrationBatch} is closed, for platforms to apply the changes
+     * they deferred while it was open.
+     */
+    void onRegistrationCommitted() {
+    }
+
+    /**
+     * Called whenever messages or replacements change, discarding everything rendered from them.
+     */
+    void invalidateMessages() {
+        clearMessageTemplates();
+        clearHelpCache();
+    }
+
+    /**
+     * Starts collecting every message sent to the issuer on this thread, so they can be delivered
+     * to the platform all at once when the returned batch is closed.
+     *
+     * @param issuer The issuer to collect messages for.
+     * @return The batch to close once done sending.
+     */
+    public MessageBatch batchMessages(CommandIssuer issuer) {
+        MessageBatch batch = messageBatch.get();
+        return batch.open(issuer) ? batch : MessageBatch.NONE;
     }
 
     public String formatMessage(CommandIssuer issuer, MessageType type, MessageKeyProvider key, String... replacements) {
@@ -469,7 +644,7 @@ public abstract class CommandManager<
         return getLocales().getDefaultLocale();
     }
 
-    CommandOperationContext<I> createCommandOperationContext(BaseCommand command, CommandIssuer issuer, String commandLabel, String[] args, boolean isAsync) {
+    CommandOperationContext<I> createCommandOperationContext(BaseCommand command, CommandIssuer issuer, String commandLabel, ArgumentCursor args, boolean isAsync) {
         //noinspection unchecked
         return new CommandOperationContext<>(
                 this,
@@ -565,33 +740,16 @@ public abstract class CommandManager<
      * @param baseCommand the instance which fields should be filled
      */
     void injectDependencies(BaseCommand baseCommand) {
-        Class clazz = baseCommand.getClass();
-        do {
-            for (Field field : clazz.getDeclaredFields()) {
-                if (annotations.hasAnnotation(field, Dependency.class)) {
-                    String dependency = annotations.getAnnotationValue(field, Dependency.class);
-                    String key = (key = dependency).isEmpty() ? field.getType().getName() : key;
-                    Object object = dependencies.row(field.getType()).get(key);
-                    if (object == null) {
-                        throw new UnresolvedDependencyException("Could not find a registered instance of " +
-                                field.getType().getName() + " with key " + key + " for field " + field.getName() +
-                                " in class " + baseCommand.getClass().getName());
-                    }
-
-                    try {
-                        boolean accessible = field.isAccessible();
-                        if (!accessible) {
-                            field.setAccessible(true);
-                        }
-                        field.set(baseCommand, object);
-                        field.setAccessible(accessible);
-                    } catch (IllegalAccessException e) {
-                        e.printStackTrace(); //TODO should we print our own exception here to make a more descriptive error?
-                    }
-                }
-            }
-            clazz = clazz.getSuperclass();
-        } while (!clazz.equals(BaseCommand.class));
+        dependencyInjectors.computeIfAbsent(baseCommand.getClass(), cls -> new DependencyInjector(this, cls))
+                .inject(this, baseCommand);
+    }
+
+    /**
+     * Forgets the dependency fields found per command class, to be called whenever replacements change
+     * as they may change dependency keys.
+     */
+    void clearDependencyInjectors() {
+        dependencyInjectors.clear();
     }
 
     /**
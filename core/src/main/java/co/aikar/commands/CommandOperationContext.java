@@ -24,7 +24,8 @@
 package co.aikar.commands;
 
 import java.lang.annotation.Annotation;
-import java.util.List;
+import java.util.HashSet;
+import java.util.Set;
 
 /**
  * Holds information about the currently executing command on this thread
@@ -35,12 +36,17 @@ public class CommandOperationContext<I extends CommandIssuer> {
     private final I issuer;
     private final BaseCommand command;
     private final String commandLabel;
-    private final String[] args;
+    private final ArgumentCursor args;
+    private String[] argsArray;
     private final boolean isAsync;
     private RegisteredCommand registeredCommand;
-    List<String> enumCompletionValues;
+    EnumLookup enumCompletions;
+    /**
+     * The completions ranked by streaming completion handlers, which may be substring matches of the input
+     */
+    final Set<String> rankedCompletions = new HashSet<>();
 
-    CommandOperationContext(CommandManager manager, I issuer, BaseCommand command, String commandLabel, String[] args, boolean isAsync) {
+    CommandOperationContext(CommandManager manager, I issuer, BaseCommand command, String commandLabel, ArgumentCursor args, boolean isAsync) {
         this.manager = manager;
         this.issuer = issuer;
         this.command = command;
@@ -66,7 +72,10 @@ public class CommandOperationContext<I extends CommandIssuer> {
     }
 
     public String[] getArgs() {
-        return args;
+        if (argsArray == null) {
+            argsArray = args.array();
+        }
+        return argsArray;
     }
 
     public boolean isAsync() {
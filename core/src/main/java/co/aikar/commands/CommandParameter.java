@@ -65,6 +65,8 @@ public class CommandParameter<CEC extends CommandExecutionContext<CEC, ? extends
     private boolean commandIssuer;
     private String[] values;
     private Map<String, String> flags;
+    private double minValue = Double.NaN;
+    private double maxValue = Double.NaN;
     private boolean canConsumeInput;
     private boolean optionalResolver;
     boolean consumesRest;
@@ -118,6 +120,7 @@ public class CommandParameter<CEC extends CommandExecutionContext<CEC, ? extends
             parseFlags(flags);
         }
         inheritContextFlags(command.scope);
+        this.computeNumericLimits();
         this.computePermissions();
     }
 
@@ -144,6 +147,28 @@ public class CommandParameter<CEC extends CommandExecutionContext<CEC, ? extends
         }
     }
 
+    /**
+     * Pre-parses the min and max flags so numeric resolvers don't have to parse them for every argument.
+     */
+    private void computeNumericLimits() {
+        this.minValue = ACFUtil.parseDouble(this.flags.get("min"), Double.NaN);
+        this.maxValue = ACFUtil.parseDouble(this.flags.get("max"), Double.NaN);
+    }
+
+    /**
+     * @return the value of the min flag, or def if the flag is not set or not a number
+     */
+    double getMinValue(double def) {
+        return Double.isNaN(minValue) ? def : minValue;
+    }
+
+    /**
+     * @return the value of the max flag, or def if the flag is not set or not a number
+     */
+    double getMaxValue(double def) {
+        return Double.isNaN(maxValue) ? def : maxValue;
+    }
+
     private void computePermissions() {
         this.permissions.clear();
         if (this.permission != null && !this.permission.isEmpty()) {
@@ -241,6 +266,7 @@ public class CommandParameter<CEC extends CommandExecutionContext<CEC, ? extends
 
     public void setFlags(Map<String, String> flags) {
         this.flags = flags;
+        this.computeNumericLimits();
     }
 
     public boolean canConsumeInput() {
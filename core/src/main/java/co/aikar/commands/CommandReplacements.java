@@ -55,7 +55,10 @@ public class CommandReplacements {
     }
 
     public String addReplacement(String key, String val) {
-        return addReplacement0(key, val);
+        String replaced = addReplacement0(key, val);
+        this.manager.invalidateMessages();
+        this.manager.clearDependencyInjectors();
+        return replaced;
     }
 
     @Nullable
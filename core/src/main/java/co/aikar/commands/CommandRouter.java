@@ -23,14 +23,17 @@
 
 package co.aikar.commands;
 
-import co.aikar.commands.apachecommonslang.ApacheCommonsLangUtil;
 import com.google.common.collect.SetMultimap;
 
-import java.util.Arrays;
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Locale;
-import java.util.Optional;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiPredicate;
 
 import static co.aikar.commands.BaseCommand.CATCHUNKNOWN;
 import static co.aikar.commands.BaseCommand.DEFAULT;
@@ -38,6 +41,7 @@ import static co.aikar.commands.BaseCommand.DEFAULT;
 class CommandRouter {
 
     private final CommandManager manager;
+    private final Map<RootCommand, Map<String, OverloadIndex>> indexes = new ConcurrentHashMap<>();
 
     CommandRouter(CommandManager manager) {
         this.manager = manager;
@@ -45,88 +49,193 @@ class CommandRouter {
 
     CommandRouteResult matchCommand(RouteSearch search, boolean completion) {
         Set<RegisteredCommand> cmds = search.commands;
-        String[] args = search.args;
-        if (!cmds.isEmpty()) {
-            if (cmds.size() == 1) {
-                return new CommandRouteResult(ACFUtil.getFirstElement(cmds), search);
-            } else {
-                Optional<RegisteredCommand> optCmd = cmds.stream()
-                        .filter(c -> isProbableMatch(c, args, completion))
-                        .min((c1, c2) -> {
-                    int a = c1.consumeInputResolvers;
-                    int b = c2.consumeInputResolvers;
-
-                    if (a == b) {
-                        return 0;
-                    }
-                    return a < b ? 1 : -1;
-                });
-                if (optCmd.isPresent()) {
-                    return new CommandRouteResult(optCmd.get(), search);
-                }
-            }
+        if (cmds.size() == 1) {
+            return new CommandRouteResult(ACFUtil.getFirstElement(cmds), search);
         }
-        return null;
+        RegisteredCommand cmd = search.index.match(search.args, completion);
+        return cmd != null ? new CommandRouteResult(cmd, search) : null;
     }
 
     /**
+     * Whether the command accepts this many arguments. Like @Default handling, a last parameter
+     * that consumes the rest of the input, or a String[], takes any number of extra arguments.
+     *
      * @param c
-     * @param args
-     * @param completion
+     * @param argLength
+     * @param completion When completing, the required arguments may still be missing
      * @return
-     * @TODO: Improve this to be more accurate like @Default handling.
      */
-    private boolean isProbableMatch(RegisteredCommand c, String[] args, boolean completion) {
+    private static boolean isProbableMatch(RegisteredCommand c, int argLength, boolean completion) {
         int required = c.requiredResolvers;
         int optional = c.optionalResolvers;
-        return args.length <= required + optional && (completion || args.length >= required);
+        return (argLength <= required + optional || isUnbounded(c)) && (completion || argLength >= required);
+    }
+
+    private static boolean isUnbounded(RegisteredCommand c) {
+        CommandParameter lastParam = c.parameters.length > 0 ? c.parameters[c.parameters.length - 1] : null;
+        return lastParam != null && (lastParam.consumesRest || lastParam.getType() == String[].class);
     }
 
     RouteSearch routeCommand(RootCommand command, String commandLabel, String[] args, boolean completion) {
+        return routeCommand(command, commandLabel, new ArgumentCursor(args), completion);
+    }
+
+    RouteSearch routeCommand(RootCommand command, String commandLabel, ArgumentCursor args, boolean completion) {
         SetMultimap<String, RegisteredCommand> subCommands = command.getSubCommands();
-        int argLength = args.length;
+        int argLength = args.size();
         for (int i = argLength; i >= 0; i--) {
-            String subcommand = ApacheCommonsLangUtil.join(args, " ", 0, i).toLowerCase(Locale.ENGLISH);
+            String subcommand = args.join(" ", 0, i).toLowerCase(Locale.ENGLISH);
             Set<RegisteredCommand> cmds = subCommands.get(subcommand);
 
             if (!cmds.isEmpty()) {
-                return new RouteSearch(cmds, Arrays.copyOfRange(args, i, argLength), commandLabel, subcommand, completion);
+                return new RouteSearch(cmds, getIndex(command, subcommand), args.slice(i), commandLabel, subcommand, completion);
             }
         }
 
-        Set<RegisteredCommand> defaultCommands = subCommands.get(DEFAULT);
-        Set<RegisteredCommand> unknownCommands = subCommands.get(CATCHUNKNOWN);
-        if (!defaultCommands.isEmpty()) {
-            Set<RegisteredCommand> matchedDefault = new HashSet<>();
-            for (RegisteredCommand c : defaultCommands) {
-                int required = c.requiredResolvers;
-                int optional = c.optionalResolvers;
-                CommandParameter lastParam = c.parameters.length > 0 ? c.parameters[c.parameters.length - 1] : null;
-                if (argLength <= required + optional || (
-                        lastParam != null && (
-                                lastParam.getType() == String[].class
-                                        ||
-                                        (argLength >= required && lastParam.consumesRest)
-                        )
-                )) {
-                    matchedDefault.add(c);
-                }
-            }
+        if (subCommands.containsKey(DEFAULT)) {
+            OverloadIndex index = getIndex(command, DEFAULT);
+            Set<RegisteredCommand> matchedDefault = index.getDefaults(argLength);
             if (!matchedDefault.isEmpty()) {
-                return new RouteSearch(matchedDefault, args, commandLabel, null, completion);
+                return new RouteSearch(matchedDefault, index, args, commandLabel, null, completion);
             }
         }
 
+        Set<RegisteredCommand> unknownCommands = subCommands.get(CATCHUNKNOWN);
         if (!unknownCommands.isEmpty()) {
-            return new RouteSearch(unknownCommands, args, commandLabel, null, completion);
+            return new RouteSearch(unknownCommands, getIndex(command, CATCHUNKNOWN), args, commandLabel, null, completion);
         }
 
         return null;
     }
 
+    private OverloadIndex getIndex(RootCommand command, String subcommand) {
+        return indexes.computeIfAbsent(command, c -> new ConcurrentHashMap<>())
+                .computeIfAbsent(subcommand, key -> new OverloadIndex(command.getSubCommands().get(key)));
+    }
+
+    /**
+     * Drops all overload indexes, to be rebuilt on next use after the registered commands changed.
+     */
+    void clearIndexes() {
+        indexes.clear();
+    }
+
+    /**
+     * The overloads registered for one subcommand key, grouped by the number of arguments they can take.
+     * Each group is ordered by preference, commands consuming the most input first.
+     * Argument counts past the largest fixed arity share the last group, which only holds unbounded commands.
+     */
+    static final class OverloadIndex {
+        private final int maxArity;
+        private final RegisteredCommand[][] execute;
+        private final RegisteredCommand[][] complete;
+        private final List<Set<RegisteredCommand>> defaults;
+
+        OverloadIndex(Set<RegisteredCommand> cmds) {
+            int maxArity = 0;
+            for (RegisteredCommand c : cmds) {
+                maxArity = Math.max(maxArity, c.requiredResolvers + c.optionalResolvers);
+            }
+            this.maxArity = maxArity;
+            this.execute = new RegisteredCommand[maxArity + 2][];
+            this.complete = new RegisteredCommand[maxArity + 2][];
+            this.defaults = new ArrayList<>(maxArity + 2);
+
+            List<RegisteredCommand> sorted = new ArrayList<>(cmds);
+            // Ties keep the iteration order of the hash backed subcommand set, the order the previous stream().min() picked from
+            sorted.sort((c1, c2) -> Integer.compare(c2.consumeInputResolvers, c1.consumeInputResolvers));
+            for (int argLength = 0; argLength <= maxArity + 1; argLength++) {
+                List<RegisteredCommand> exec = new ArrayList<>();
+                List<RegisteredCommand> comp = new ArrayList<>();
+                for (RegisteredCommand c : sorted) {
+                    if (isProbableMatch(c, argLength, false)) {
+                        exec.add(c);
+                    }
+                    if (isProbableMatch(c, argLength, true)) {
+                        comp.add(c);
+                    }
+                }
+                this.execute[argLength] = exec.toArray(new RegisteredCommand[0]);
+                this.complete[argLength] = comp.toArray(new RegisteredCommand[0]);
+
+                Set<RegisteredCommand> matchedDefault = new LinkedHashSet<>();
+                for (RegisteredCommand c : cmds) {
+                    int required = c.requiredResolvers;
+                    int optional = c.optionalResolvers;
+                    CommandParameter lastParam = c.parameters.length > 0 ? c.parameters[c.parameters.length - 1] : null;
+                    if (argLength <= required + optional || (
+                            lastParam != null && (
+                                    lastParam.getType() == String[].class
+                                            ||
+                                            (argLength >= required && lastParam.consumesRest)
+                            )
+                    )) {
+                        matchedDefault.add(c);
+                    }
+                }
+                this.defaults.add(Collections.unmodifiableSet(matchedDefault));
+            }
+        }
+
+        /**
+         * @return The @Default commands that can take this many arguments
+         */
+        Set<RegisteredCommand> getDefaults(int argLength) {
+            return defaults.get(Math.min(argLength, maxArity + 1));
+        }
+
+        /**
+         * Picks the preferred overload for the arguments. When overloads consuming as much input tie,
+         * the first one whose parameter types fit the arguments wins.
+         */
+        RegisteredCommand match(List<String> args, boolean completion) {
+            RegisteredCommand[] candidates = (completion ? complete : execute)[Math.min(args.size(), maxArity + 1)];
+            if (candidates.length == 0) {
+                return null;
+            }
+            RegisteredCommand best = candidates[0];
+            if (candidates.length == 1 || candidates[1].consumeInputResolvers != best.consumeInputResolvers) {
+                return best;
+            }
+            for (RegisteredCommand c : candidates) {
+                if (c.consumeInputResolvers != best.consumeInputResolvers) {
+                    break;
+                }
+                if (typesFit(c, args)) {
+                    return c;
+                }
+            }
+            return best;
+        }
+
+        /**
+         * Cheap check of the arguments against the argument predicates of the parameters, without resolving them.
+         *
+         * @see CommandContexts#registerArgumentPredicate(Class, java.util.function.Predicate)
+         */
+        private static boolean typesFit(RegisteredCommand<?> c, List<String> args) {
+            CommandContexts<?> contexts = c.manager.getCommandContexts();
+            int arg = 0;
+            for (CommandParameter<?> param : c.parameters) {
+                if (arg >= args.size() || param.consumesRest) {
+                    break;
+                }
+                if (!param.canConsumeInput()) {
+                    continue;
+                }
+                String input = args.get(arg++);
+                BiPredicate<Class<?>, String> canParse = contexts.getArgumentPredicate(param);
+                if (canParse != null && !canParse.test(param.getType(), input)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
     static class CommandRouteResult {
         final RegisteredCommand cmd;
-        final String[] args;
+        final ArgumentCursor args;
         final String commandLabel;
         final String subcommand;
 
@@ -135,6 +244,10 @@ class CommandRouter {
         }
 
         CommandRouteResult(RegisteredCommand cmd, String[] args, String subcommand, String commandLabel) {
+            this(cmd, new ArgumentCursor(args), subcommand, commandLabel);
+        }
+
+        CommandRouteResult(RegisteredCommand cmd, ArgumentCursor args, String subcommand, String commandLabel) {
             this.cmd = cmd;
             this.args = args;
             this.commandLabel = commandLabel;
@@ -144,13 +257,15 @@ class CommandRouter {
     }
 
     static class RouteSearch {
-        final String[] args;
+        final ArgumentCursor args;
         final Set<RegisteredCommand> commands;
+        final OverloadIndex index;
         final String commandLabel;
         final String subcommand;
 
-        RouteSearch(Set<RegisteredCommand> commands, String[] args, String commandLabel, String subcommand, boolean completion) {
+        RouteSearch(Set<RegisteredCommand> commands, OverloadIndex index, ArgumentCursor args, String commandLabel, String subcommand, boolean completion) {
             this.commands = commands;
+            this.index = index;
             this.args = args;
             this.commandLabel = commandLabel.toLowerCase(Locale.ENGLISH);
             this.subcommand = subcommand;
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2016-2017 Daniel Ennis (Aikar) - MIT License
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining
+ *  a copy of this software and associated documentation files (the
+ *  "Software"), to deal in the Software without restriction, including
+ *  without limitation the rights to use, copy, modify, merge, publish,
+ *  distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to
+ *  the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be
+ *  included in all copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ *  EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ *  MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ *  NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ *  LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ *  OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ *  WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package co.aikar.commands;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Keeps the best few completions out of a possibly large number of candidates.
+ * <p>
+ * Candidates are ranked by how they match the input: starting with it exactly, then starting with it ignoring case,
+ * then containing it ignoring case. Others are dropped. Within a rank, candidates keep the order they came in.
+ */
+public final class CompletionRanker {
+
+    public static final int EXACT_PREFIX = 0;
+    public static final int PREFIX = 1;
+    public static final int SUBSTRING = 2;
+    public static final int NO_MATCH = -1;
+
+    private CompletionRanker() {
+    }
+
+    /**
+     * @return The rank of the candidate for the input, or {@link #NO_MATCH}
+     */
+    public static int rank(String input, String candidate) {
+        if (candidate.startsWith(input)) {
+            return EXACT_PREFIX;
+        }
+        if (candidate.regionMatches(true, 0, input, 0, input.length())) {
+            return PREFIX;
+        }
+        for (int i = 1, last = candidate.length() - input.length(); i <= last; i++) {
+            if (candidate.regionMatches(true, i, input, 0, input.length())) {
+                return SUBSTRING;
+            }
+        }
+        return NO_MATCH;
+    }
+
+    /**
+     * Ranks the candidates and keeps the best of them, without holding more than {@code limit} candidates at a time.
+     * Stops consuming the iterator once {@code limit} exact prefix matches were found, as nothing could replace them.
+     *
+     * @param candidates The candidates, nulls and duplicates are skipped
+     * @param input      What the issuer typed so far
+     * @param limit      How many completions to keep at most
+     * @return The kept completions, best first
+     */
+    public static List<String> top(Iterator<String> candidates, String input, int limit) {
+        List<List<String>> ranks = new ArrayList<>(3);
+        for (int i = 0; i <= SUBSTRING; i++) {
+            ranks.add(new ArrayList<>());
+        }
+        Set<String> kept = new HashSet<>();
+        int size = 0;
+        while (limit > 0 && ranks.get(EXACT_PREFIX).size() < limit && candidates.hasNext()) {
+            String candidate = candidates.next();
+            if (candidate == null) {
+                continue;
+            }
+            int rank = rank(input, candidate);
+            if (rank == NO_MATCH || !isBetter(ranks, rank, limit) || !kept.add(candidate)) {
+                continue;
+            }
+            ranks.get(rank).add(candidate);
+            if (++size > limit) {
+                // Drop the last of the worst rank to make room
+                for (int i = SUBSTRING; i >= EXACT_PREFIX; i--) {
+                    List<String> worst = ranks.get(i);
+                    if (!worst.isEmpty()) {
+                        kept.remove(worst.remove(worst.size() - 1));
+                        size--;
+                        break;
+                    }
+                }
+            }
+        }
+        List<String> top = new ArrayList<>(size);
+        for (List<String> rank : ranks) {
+            top.addAll(rank);
+        }
+        return top;
+    }
+
+    /**
+     * @return Whether a candidate of that rank would be among the best {@code limit} ones
+     */
+    private static boolean isBetter(List<List<String>> ranks, int rank, int limit) {
+        int ahead = 0;
+        for (int i = EXACT_PREFIX; i <= rank; i++) {
+            ahead += ranks.get(i).size();
+        }
+        return ahead < limit;
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2016-2017 Daniel Ennis (Aikar) - MIT License
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining
+ *  a copy of this software and associated documentation files (the
+ *  "Software"), to deal in the Software without restriction, including
+ *  without limitation the rights to use, copy, modify, merge, publish,
+ *  distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to
+ *  the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be
+ *  included in all copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ *  EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ *  MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ *  NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ *  LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ *  OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ *  WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package co.aikar.commands;
+
+import co.aikar.locales.MessageKeyProvider;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Renders locale messages straight into a platform's rich text components from their compiled
+ * {@link MessageTemplate}, skipping the round trip through legacy color code strings.
+ * <p>
+ * The literal parts of each template are built once per formatter and reused, only placeholder
+ * values are turned into new components on each render.
+ *
+ * @param <C>  The platform component type
+ * @param <FT> The platform specific color object
+ */
+public abstract class ComponentMessageRenderer<C, FT> {
+
+    private final CommandManager<?, ?, FT, ?, ?, ?> manager;
+    private final Class<?> formatterClass;
+
+    /**
+     * @param manager        The manager whose messages are rendered.
+     * @param formatterClass The platform's own formatter class. Messages using any other formatter, such as a subclass
+     *                       overriding {@link MessageFormatter#format(String)}, are left to the string pipeline.
+     */
+    protected ComponentMessageRenderer(CommandManager<?, ?, FT, ?, ?, ?> manager, Class<?> formatterClass) {
+        this.manager = manager;
+        this.formatterClass = formatterClass;
+    }
+
+    /**
+     * Creates a component showing the given plain text in the given color.
+     *
+     * @param text  The text, without any formatting codes.
+     * @param color The color, which may be null if there is no formatter for this message.
+     * @return The component.
+     */
+    protected abstract C text(String text, @Nullable FT color);
+
+    /**
+     * @param parts The components to join.
+     * @return A single component showing all parts one after another.
+     */
+    protected abstract C join(List<C> parts);
+
+    /**
+     * Renders a message as a component.
+     *
+     * @return The component, or null if the message needs the string formatting pipeline, like when it
+     * uses legacy color codes, replacements that are not simple placeholders or a custom formatter.
+     */
+    @Nullable
+    public C render(CommandIssuer issuer, MessageType type, MessageKeyProvider key, String... replacements) {
+        if (replacements.length % 2 != 0) {
+            return null;
+        }
+        for (int i = 0; i < replacements.length; i += 2) {
+            if (!isPlaceholder(replacements[i]) || !isPlainValue(replacements[i + 1])) {
+                return null;
+            }
+        }
+        MessageFormatter<FT> formatter = manager.getFormat(type);
+        if (formatter != null && formatter.getClass() != formatterClass) {
+            return null;
+        }
+        MessageTemplate template = manager.getMessageTemplate(issuer, type, key);
+        if (template.hasLegacyFormatting()) {
+            return null;
+        }
+
+        RenderedParts<C> rendered = getRenderedParts(template, formatter);
+        List<MessageTemplate.Part> parts = template.getParts();
+        List<C> components = new ArrayList<>(parts.size());
+        for (int i = 0; i < parts.size(); i++) {
+            MessageTemplate.Part part = parts.get(i);
+            String value = part.isPlaceholder() ? findReplacement(part.getText(), replacements) : null;
+            if (value != null) {
+                components.add(text(value, formatter != null ? formatter.getColor(part.getColor()) : null));
+            } else {
+                components.add(rendered.parts.get(i));
+            }
+        }
+        return components.size() == 1 ? components.get(0) : join(components);
+    }
+
+    private RenderedParts<C> getRenderedParts(MessageTemplate template, MessageFormatter<FT> formatter) {
+        int version = formatter != null ? formatter.version : 0;
+        //noinspection unchecked
+        RenderedParts<C> rendered = (RenderedParts<C>) template.rendered;
+        if (rendered != null && rendered.formatter == formatter && rendered.version == version) {
+            return rendered;
+        }
+        List<C> parts = new ArrayList<>(template.getParts().size());
+        for (MessageTemplate.Part part : template.getParts()) {
+            parts.add(text(part.getText(), formatter != null ? formatter.getColor(part.getColor()) : null));
+        }
+        rendered = new RenderedParts<>(formatter, version, parts);
+        template.rendered = rendered;
+        return rendered;
+    }
+
+    private static String findReplacement(String placeholder, String[] replacements) {
+        for (int i = 0; i < replacements.length; i += 2) {
+            if (placeholder.equals(replacements[i])) {
+                String value = replacements[i + 1];
+                return value != null ? value : "";
+            }
+        }
+        return null;
+    }
+
+    private static boolean isPlaceholder(String key) {
+        return key != null && key.length() > 2 && key.charAt(0) == '{' && key.charAt(key.length() - 1) == '}';
+    }
+
+    /**
+     * Values which the string pipeline would have formatted further (color tags, command replacements,
+     * i18n keys, other placeholders or legacy color codes) are left to it.
+     */
+    private static boolean isPlainValue(String value) {
+        if (value == null) {
+            return true;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            switch (value.charAt(i)) {
+                case '<':
+                case '{':
+                case '%':
+                case '&':
+                case '\u00A7':
+                case '\n':
+                    return false;
+            }
+        }
+        return true;
+    }
+
+    private static class RenderedParts<C> {
+        private final MessageFormatter<?> formatter;
+        private final int version;
+        private final List<C> parts;
+
+        RenderedParts(MessageFormatter<?> formatter, int version, List<C> parts) {
+            this.formatter = formatter;
+            this.version = version;
+            this.parts = parts;
+        }
+    }
+}
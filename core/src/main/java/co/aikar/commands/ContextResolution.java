@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2016-2017 Daniel Ennis (Aikar) - MIT License
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining
+ *  a copy of this software and associated documentation files (the
+ *  "Software"), to deal in the Software without restriction, including
+ *  without limitation the rights to use, copy, modify, merge, publish,
+ *  distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to
+ *  the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be
+ *  included in all copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ *  EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ *  MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ *  NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ *  LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ *  OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ *  WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package co.aikar.commands;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The progress of resolving the parameters of a command from its arguments, which can be resumed to
+ * resolve further parameters.
+ * <p>
+ * When tracking, it also records how many arguments each parameter consumed, so a later resolution
+ * for arguments starting with the same tokens can continue from there instead of resolving them all
+ * again. This is what lets completions look up earlier arguments on every keystroke cheaply.
+ * Once shared, a resolution must no longer be resumed, only continued from through {@link #continueWith(String[])}.
+ */
+final class ContextResolution {
+
+    final RegisteredCommand<?> command;
+    final ArgumentCursor origArgs;
+    final ArgumentCursor args;
+    final Map<String, Object> passedArgs = new LinkedHashMap<>();
+    int remainingRequired;
+    int next;
+    private String[] origArgsArray;
+
+    private final long created;
+    private final String[] input;
+    private final int[] consumed;
+    private final int[] remainingRequiredAfter;
+
+    ContextResolution(RegisteredCommand<?> command, List<String> args) {
+        this.command = command;
+        // The original arguments are kept as an untouched view for @Values lookups, only copied out if needed
+        this.origArgs = ArgumentCursor.of(args);
+        this.args = this.origArgs.slice(0);
+        this.remainingRequired = command.requiredResolvers;
+        this.created = 0;
+        this.input = null;
+        this.consumed = null;
+        this.remainingRequiredAfter = null;
+    }
+
+    private ContextResolution(RegisteredCommand<?> command, String[] input, int consumed, long created) {
+        this.command = command;
+        this.origArgs = new ArgumentCursor(input);
+        this.args = new ArgumentCursor(input, consumed, input.length);
+        this.origArgsArray = input;
+        this.remainingRequired = command.requiredResolvers;
+        this.created = created;
+        this.input = input;
+        this.consumed = new int[command.parameters.length];
+        this.remainingRequiredAfter = new int[command.parameters.length];
+    }
+
+    /**
+     * Starts a resolution that tracks how many arguments each parameter consumed.
+     */
+    static ContextResolution tracking(RegisteredCommand<?> command, String[] input) {
+        return new ContextResolution(command, input, 0, System.currentTimeMillis());
+    }
+
+    String[] getOrigArgsArray() {
+        if (origArgsArray == null) {
+            origArgsArray = origArgs.array();
+        }
+        return origArgsArray;
+    }
+
+    /**
+     * Records the value of the parameter at the given index, which must be the next one.
+     */
+    void resolved(int index, String name, Object value) {
+        passedArgs.put(name, value);
+        next = index + 1;
+        if (consumed != null) {
+            int consumedFrom = args.consumedFrom(input);
+            // Once a parameter consumed arguments any other way, nothing after it can be continued from
+            consumed[index] = consumedFrom != -1 && (index == 0 || consumed[index - 1] != -1) ? consumedFrom : -1;
+            remainingRequiredAfter[index] = remainingRequired;
+        }
+    }
+
+    boolean isFor(RegisteredCommand<?> command, String[] input) {
+        return this.command == command && Arrays.equals(this.input, input);
+    }
+
+    /**
+     * @return How old the values resolved by this are, in milliseconds.
+     */
+    long getAge() {
+        return System.currentTimeMillis() - created;
+    }
+
+    /**
+     * Starts a new tracking resolution for the same command over other arguments, keeping the values of
+     * every parameter that only consumed arguments both share.
+     *
+     * @param input The arguments to resolve.
+     * @return The new resolution, which may not have kept any value.
+     */
+    ContextResolution continueWith(String[] input) {
+        int prefix = 0;
+        int max = Math.min(this.input.length, input.length);
+        while (prefix < max && Objects.equals(this.input[prefix], input[prefix])) {
+            prefix++;
+        }
+        boolean same = prefix == this.input.length && prefix == input.length;
+        int last = -1;
+        for (int i = 0; i < next && consumed[i] != -1 && consumed[i] <= prefix; i++) {
+            // A parameter also depends on whether any argument was left for it, so it must have started on a shared one
+            if (!same && (i == 0 ? 0 : consumed[i - 1]) == prefix) {
+                break;
+            }
+            last = i;
+        }
+        if (last == -1) {
+            return tracking(command, input);
+        }
+
+        ContextResolution resolution = new ContextResolution(command, input, consumed[last], created);
+        Iterator<Map.Entry<String, Object>> it = passedArgs.entrySet().iterator();
+        for (int i = 0; i <= last; i++) {
+            Map.Entry<String, Object> entry = it.next();
+            resolution.passedArgs.put(entry.getKey(), entry.getValue());
+        }
+        System.arraycopy(consumed, 0, resolution.consumed, 0, last + 1);
+        System.arraycopy(remainingRequiredAfter, 0, resolution.remainingRequiredAfter, 0, last + 1);
+        resolution.remainingRequired = remainingRequiredAfter[last];
+        resolution.next = last + 1;
+        return resolution;
+    }
+}
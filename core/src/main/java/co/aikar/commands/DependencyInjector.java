@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2016-2017 Daniel Ennis (Aikar) - MIT License
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining
+ *  a copy of this software and associated documentation files (the
+ *  "Software"), to deal in the Software without restriction, including
+ *  without limitation the rights to use, copy, modify, merge, publish,
+ *  distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to
+ *  the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be
+ *  included in all copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ *  EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ *  MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ *  NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ *  LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ *  OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ *  WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package co.aikar.commands;
+
+import co.aikar.commands.annotation.Dependency;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The {@link Dependency} fields of a command class, found once per class, with a setter handle for each.
+ * Registering more instances of the same class only looks up the dependencies and sets them.
+ */
+final class DependencyInjector {
+
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final Class<?> commandClass;
+    private final InjectedField[] fields;
+
+    DependencyInjector(CommandManager manager, Class<? extends BaseCommand> commandClass) {
+        this.commandClass = commandClass;
+        List<InjectedField> fields = new ArrayList<>();
+        Class<?> clazz = commandClass;
+        do {
+            for (Field field : clazz.getDeclaredFields()) {
+                if (manager.getAnnotations().hasAnnotation(field, Dependency.class)) {
+                    String dependency = manager.getAnnotations().getAnnotationValue(field, Dependency.class);
+                    String key = dependency.isEmpty() ? field.getType().getName() : dependency;
+                    fields.add(new InjectedField(field, key));
+                }
+            }
+            clazz = clazz.getSuperclass();
+        } while (!clazz.equals(BaseCommand.class));
+        this.fields = fields.toArray(new InjectedField[0]);
+    }
+
+    void inject(CommandManager manager, BaseCommand baseCommand) {
+        for (InjectedField field : fields) {
+            Object object = manager.dependencies.get(field.type, field.key);
+            if (object == null) {
+                throw new UnresolvedDependencyException("Could not find a registered instance of " +
+                        field.type.getName() + " with key " + field.key + " for field " + field.name +
+                        " in class " + commandClass.getName());
+            }
+            field.set(manager, commandClass, baseCommand, object);
+        }
+    }
+
+    private static final class InjectedField {
+        private final Class<?> type;
+        private final String key;
+        private final String name;
+        private final MethodHandle setter;
+        private final Field field;
+
+        private InjectedField(Field field, String key) {
+            this.type = field.getType();
+            this.key = key;
+            this.name = field.getName();
+            field.setAccessible(true);
+            MethodHandle setter;
+            try {
+                setter = MethodHandles.lookup().unreflectSetter(field);
+                if (Modifier.isStatic(field.getModifiers())) {
+                    setter = MethodHandles.dropArguments(setter, 0, Object.class);
+                }
+                setter = setter.asType(SETTER_TYPE);
+            } catch (IllegalAccessException e) {
+                // Final fields have no setter handle, but reflection can still write them
+                setter = null;
+            }
+            this.setter = setter;
+            this.field = setter == null ? field : null;
+        }
+
+        private void set(CommandManager manager, Class<?> commandClass, Object instance, Object value) {
+            try {
+                if (setter != null) {
+                    setter.invokeExact(instance, value);
+                } else {
+                    field.set(instance, value);
+                }
+            } catch (IllegalAccessException e) {
+                manager.log(LogLevel.ERROR, "Could not inject dependency into field " + name +
+                        " in class " + commandClass.getName(), e);
+            } catch (Throwable t) {
+                ACFUtil.sneaky(t);
+            }
+        }
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2016-2017 Daniel Ennis (Aikar) - MIT License
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining
+ *  a copy of this software and associated documentation files (the
+ *  "Software"), to deal in the Software without restriction, including
+ *  without limitation the rights to use, copy, modify, merge, publish,
+ *  distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to
+ *  the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be
+ *  included in all copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ *  EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ *  MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ *  NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ *  LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ *  OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ *  WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package co.aikar.commands;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Lookup tables for an enum, built once per enum class on first use.
+ * Resolving a constant from user input is a single hash lookup, and completing names by prefix a binary search.
+ */
+final class EnumLookup {
+
+    private static final ClassValue<EnumLookup> LOOKUPS = new ClassValue<EnumLookup>() {
+        @Override
+        protected EnumLookup computeValue(Class<?> type) {
+            return new EnumLookup((Enum<?>[]) type.getEnumConstants());
+        }
+    };
+
+    private final Map<String, Enum<?>> bySimpleName;
+    private final List<String> names;
+    private final String[] sortedNames;
+    private final String[] sortedLowerNames;
+    private final String joinedNames;
+
+    private EnumLookup(Enum<?>[] constants) {
+        this.bySimpleName = new HashMap<>(constants.length * 2);
+        List<String> names = new ArrayList<>(constants.length);
+        for (Enum<?> constant : constants) {
+            // First declared constant wins, like a linear scan would
+            this.bySimpleName.putIfAbsent(ACFUtil.simplifyString(constant.name()), constant);
+            names.add(constant.name());
+        }
+        this.names = Collections.unmodifiableList(names);
+        this.joinedNames = ACFUtil.join(names, ", ");
+
+        String[] sorted = names.toArray(new String[0]);
+        Arrays.sort(sorted, Comparator.comparing(name -> name.toLowerCase(Locale.ENGLISH)));
+        this.sortedNames = sorted;
+        this.sortedLowerNames = new String[sorted.length];
+        for (int i = 0; i < sorted.length; i++) {
+            this.sortedLowerNames[i] = sorted[i].toLowerCase(Locale.ENGLISH);
+        }
+    }
+
+    static EnumLookup of(Class<? extends Enum<?>> cls) {
+        return LOOKUPS.get(cls);
+    }
+
+    /**
+     * @param input The user input.
+     * @return The constant whose simplified name matches the simplified input, or null.
+     * @see ACFUtil#simplifyString(String)
+     */
+    Enum<?> match(String input) {
+        if (input == null) {
+            return null;
+        }
+        return bySimpleName.get(ACFUtil.simplifyString(input));
+    }
+
+    /**
+     * @return The names of all constants in declaration order.
+     */
+    List<String> getNames() {
+        return names;
+    }
+
+    /**
+     * @return The names of all constants joined by commas, for error messages.
+     */
+    String getJoinedNames() {
+        return joinedNames;
+    }
+
+    /**
+     * @param prefix The prefix to look for, ignoring case.
+     * @return The names starting with the prefix, sorted by their lower case form.
+     */
+    List<String> namesStartingWith(String prefix) {
+        if (prefix == null || prefix.isEmpty()) {
+            return names;
+        }
+        String lower = prefix.toLowerCase(Locale.ENGLISH);
+        int idx = Arrays.binarySearch(sortedLowerNames, lower);
+        if (idx < 0) {
+            idx = -idx - 1;
+        } else {
+            // Step back over equal names so none are skipped
+            while (idx > 0 && sortedLowerNames[idx - 1].equals(lower)) {
+                idx--;
+            }
+        }
+        List<String> result = new ArrayList<>();
+        for (int i = idx; i < sortedLowerNames.length && sortedLowerNames[i].startsWith(lower); i++) {
+            result.add(sortedNames[i]);
+        }
+        return result;
+    }
+}
@@ -98,6 +98,7 @@ public class Locales {
     }
 
     public Locale setDefaultLocale(Locale locale) {
+        this.manager.invalidateMessages();
         return this.localeManager.setDefaultLocale(locale);
     }
 
@@ -142,6 +143,7 @@ public class Locales {
         SetMultimap<String, Locale> classLoadersLocales = this.loadedBundles.getOrDefault(classLoader, HashMultimap.create());
         if(!classLoadersLocales.containsEntry(bundleName, locale)) {
             if(this.localeManager.addMessageBundle(classLoader, bundleName, locale)) {
+                this.manager.invalidateMessages();
                 classLoadersLocales.put(bundleName, locale);
                 this.loadedBundles.put(classLoader, classLoadersLocales);
                 return true;
@@ -155,6 +157,7 @@ public class Locales {
         Map<MessageKey, String> map = new HashMap<>(messages.size());
         messages.forEach((key, value) -> map.put(MessageKey.of(key), value));
         this.localeManager.addMessages(locale, map);
+        this.manager.invalidateMessages();
     }
 
     public void addMessages(Locale locale, @NotNull Map<? extends MessageKeyProvider, String> messages) {
@@ -164,9 +167,11 @@ public class Locales {
         }
 
         this.localeManager.addMessages(locale, messagesMap);
+        this.manager.invalidateMessages();
     }
 
     public String addMessage(Locale locale, MessageKeyProvider key, String message) {
+        this.manager.invalidateMessages();
         return this.localeManager.addMessage(locale, key.getMessageKey(), message);
     }
 
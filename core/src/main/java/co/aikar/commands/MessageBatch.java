@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2016-2017 Daniel Ennis (Aikar) - MIT License
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining
+ *  a copy of this software and associated documentation files (the
+ *  "Software"), to deal in the Software without restriction, including
+ *  without limitation the rights to use, copy, modify, merge, publish,
+ *  distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to
+ *  the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be
+ *  included in all copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ *  EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ *  MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ *  NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ *  LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ *  OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ *  WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package co.aikar.commands;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects the lines of every message sent to an issuer while it is open, and delivers them to the
+ * platform in a single {@link CommandIssuer#sendMessagesInternal(List)} call once closed.
+ * <p>
+ * Batches are per thread and reuse their line buffer. Opening a batch for the issuer already being
+ * collected nests into it, while messages to any other issuer are still sent right away.
+ *
+ * @see CommandManager#batchMessages(CommandIssuer)
+ */
+public class MessageBatch implements AutoCloseable {
+
+    static final MessageBatch NONE = new MessageBatch();
+
+    private final List<String> lines = new ArrayList<>();
+    private CommandIssuer issuer;
+    private int depth;
+    private boolean flushing;
+
+    MessageBatch() {
+    }
+
+    boolean open(CommandIssuer issuer) {
+        if (this == NONE || flushing) {
+            return false;
+        }
+        if (this.issuer == null) {
+            this.issuer = issuer;
+        } else if (!isFor(issuer)) {
+            return false;
+        }
+        depth++;
+        return true;
+    }
+
+    /**
+     * @return The amount of lines collected so far.
+     */
+    int lineCount() {
+        return lines.size();
+    }
+
+    /**
+     * @param from The line to start at.
+     * @return A copy of the lines collected since the given line.
+     */
+    List<String> copyLines(int from) {
+        return new ArrayList<>(lines.subList(from, lines.size()));
+    }
+
+    void addLines(List<String> lines) {
+        this.lines.addAll(lines);
+    }
+
+    boolean isCollecting(CommandIssuer issuer) {
+        return this.issuer != null && isFor(issuer);
+    }
+
+    private boolean isFor(CommandIssuer issuer) {
+        if (this.issuer == issuer) {
+            return true;
+        }
+        Object current = this.issuer.getIssuer();
+        return current != null && current.equals(issuer.getIssuer());
+    }
+
+    /**
+     * Adds a formatted message to this batch, or sends it right away if this batch is not collecting.
+     *
+     * @param issuer  The issuer to send the message to.
+     * @param message The formatted message, which may contain multiple lines.
+     */
+    void append(CommandIssuer issuer, String message) {
+        if (this.issuer == null) {
+            List<String> lines = new ArrayList<>();
+            ACFUtil.splitLines(message, lines);
+            deliver(issuer, lines);
+        } else {
+            ACFUtil.splitLines(message, this.lines);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (depth == 0 || --depth > 0) {
+            return;
+        }
+        CommandIssuer target = this.issuer;
+        this.issuer = null;
+        this.flushing = true;
+        try {
+            deliver(target, lines);
+        } finally {
+            this.flushing = false;
+            lines.clear();
+        }
+    }
+
+    @SuppressWarnings("deprecation")
+    private static void deliver(CommandIssuer issuer, List<String> lines) {
+        if (lines.size() == 1) {
+            issuer.sendMessageInternal(lines.get(0));
+        } else if (!lines.isEmpty()) {
+            issuer.sendMessagesInternal(lines);
+        }
+    }
+}
@@ -36,6 +36,10 @@ import java.util.regex.Matcher;
 public abstract class MessageFormatter <FT> {
 
     private final List<FT> colors = new ArrayList<>();
+    /**
+     * Incremented on every color change, so anything rendered with the previous colors can be discarded
+     */
+    int version;
 
     @SafeVarargs
     public MessageFormatter(FT... colors) {
@@ -43,6 +47,7 @@ public abstract class MessageFormatter <FT> {
 
     }
     public FT setColor(int index, FT color) {
+        version++;
         if (index > 0) {
             index--;
         } else {
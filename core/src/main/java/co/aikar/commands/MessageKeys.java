@@ -58,6 +58,7 @@ public enum MessageKeys implements MessageKeyProvider {
     HELP_DETAILED_COMMAND_FORMAT,
     HELP_DETAILED_PARAMETER_FORMAT,
     HELP_SEARCH_HEADER,
+    RATE_LIMITED,
     ;
 
     private final MessageKey key = MessageKey.of("acf-core." + this.name().toLowerCase(Locale.ENGLISH));
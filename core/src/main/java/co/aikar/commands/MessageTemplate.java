@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2016-2017 Daniel Ennis (Aikar) - MIT License
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining
+ *  a copy of this software and associated documentation files (the
+ *  "Software"), to deal in the Software without restriction, including
+ *  without limitation the rights to use, copy, modify, merge, publish,
+ *  distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to
+ *  the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be
+ *  included in all copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ *  EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ *  MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ *  NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ *  LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ *  OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ *  WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package co.aikar.commands;
+
+import co.aikar.locales.MessageKey;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.regex.Matcher;
+
+/**
+ * A locale message compiled once into colored text parts and placeholder slots, so platforms able to
+ * send rich text can build it directly instead of going through the legacy color code string.
+ *
+ * @see ComponentMessageRenderer
+ */
+public class MessageTemplate {
+
+    private final List<Part> parts;
+    private final boolean legacyFormatting;
+    /**
+     * Rendered parts cached by the {@link ComponentMessageRenderer} using this template
+     */
+    volatile Object rendered;
+
+    private MessageTemplate(List<Part> parts, boolean legacyFormatting) {
+        this.parts = Collections.unmodifiableList(parts);
+        this.legacyFormatting = legacyFormatting;
+    }
+
+    /**
+     * Compiles a message which already had its command replacements and i18n keys applied.
+     * Placeholders are any {@code {name}} left in the message.
+     *
+     * @param message The message to compile.
+     * @return The compiled template.
+     */
+    public static MessageTemplate compile(String message) {
+        List<Part> parts = new ArrayList<>();
+        Matcher matcher = ACFPatterns.FORMATTER.matcher(message);
+        int last = 0;
+        while (matcher.find()) {
+            addParts(parts, message.substring(last, matcher.start()), 1);
+            addParts(parts, matcher.group("msg"), ACFUtil.parseInt(matcher.group("color"), 1));
+            last = matcher.end();
+        }
+        addParts(parts, message.substring(last), 1);
+        boolean legacyFormatting = message.indexOf('&') != -1 || message.indexOf('\u00A7') != -1;
+        return new MessageTemplate(parts, legacyFormatting);
+    }
+
+    private static void addParts(List<Part> parts, String text, int color) {
+        int from = 0;
+        int open = text.indexOf('{');
+        while (open != -1) {
+            int close = text.indexOf('}', open + 1);
+            if (close == -1) {
+                break;
+            }
+            if (isPlaceholderName(text, open + 1, close)) {
+                if (open > from) {
+                    parts.add(new Part(text.substring(from, open), false, color));
+                }
+                parts.add(new Part(text.substring(open, close + 1), true, color));
+                from = close + 1;
+                open = text.indexOf('{', from);
+            } else {
+                open = text.indexOf('{', open + 1);
+            }
+        }
+        if (from < text.length()) {
+            parts.add(new Part(text.substring(from), false, color));
+        }
+    }
+
+    private static boolean isPlaceholderName(String text, int start, int end) {
+        if (start == end) {
+            return false;
+        }
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (!Character.isLetterOrDigit(c) && c != '_' && c != '-') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public List<Part> getParts() {
+        return parts;
+    }
+
+    /**
+     * @return Whether the message contains legacy color codes, which can not be represented by this template.
+     */
+    public boolean hasLegacyFormatting() {
+        return legacyFormatting;
+    }
+
+    public static class Part {
+        private final String text;
+        private final boolean placeholder;
+        private final int color;
+
+        Part(String text, boolean placeholder, int color) {
+            this.text = text;
+            this.placeholder = placeholder;
+            this.color = color;
+        }
+
+        /**
+         * @return The literal text, or the placeholder including its braces.
+         */
+        public String getText() {
+            return text;
+        }
+
+        public boolean isPlaceholder() {
+            return placeholder;
+        }
+
+        /**
+         * @return The index of the color of the {@link MessageFormatter} this part is shown in.
+         */
+        public int getColor() {
+            return color;
+        }
+    }
+
+    static final class Key {
+        private final Locale locale;
+        private final MessageKey key;
+        private final MessageType type;
+
+        Key(Locale locale, MessageKey key, MessageType type) {
+            this.locale = locale;
+            this.key = key;
+            this.type = type;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Key other = (Key) o;
+            return Objects.equals(locale, other.locale) && key.equals(other.key) && type == other.type;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(locale, key, type);
+        }
+    }
+}
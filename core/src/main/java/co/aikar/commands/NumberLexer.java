@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2016-2017 Daniel Ennis (Aikar) - MIT License
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining
+ *  a copy of this software and associated documentation files (the
+ *  "Software"), to deal in the Software without restriction, including
+ *  without limitation the rights to use, copy, modify, merge, publish,
+ *  distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to
+ *  the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be
+ *  included in all copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ *  EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ *  MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ *  NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ *  LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ *  OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ *  WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package co.aikar.commands;
+
+/**
+ * Hand written parser for numeric command arguments.
+ * <p>
+ * Accepts the same input as the old regex and {@link Double#parseDouble(String)} based parsing: {@code 0x} hex and
+ * {@code 0b} binary literals, an optional sign, decimals and, when enabled, a k/m/b suffix. Plain decimal input is
+ * lexed in a single pass into a primitive without creating any intermediate strings. Anything more exotic, such as
+ * exponents or more than 15 significant digits, falls back to {@link Double#parseDouble(String)} so results stay
+ * identical.
+ */
+final class NumberLexer {
+
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    // Up to 15 digits always fit in the 53 bit mantissa of a double
+    private static final int MAX_EXACT_DIGITS = 15;
+
+    private NumberLexer() {
+    }
+
+    /**
+     * @return 16 or 2 if the input is a hex or binary literal, 10 otherwise
+     */
+    static int radix(String num) {
+        if (num.length() < 2 || num.charAt(0) != '0') {
+            return 10;
+        }
+        final int radix;
+        switch (num.charAt(1)) {
+            case 'x':
+                radix = 16;
+                break;
+            case 'b':
+                radix = 2;
+                break;
+            default:
+                return 10;
+        }
+        for (int i = 2; i < num.length(); i++) {
+            if (digit(num.charAt(i), radix) < 0) {
+                return 10;
+            }
+        }
+        return radix;
+    }
+
+    /**
+     * Parses a literal that {@link #radix(String)} reported as hex or binary.
+     */
+    static long parseRadix(String num, int radix) throws NumberFormatException {
+        if (num.length() == 2) {
+            throw new NumberFormatException("For input string: \"" + num + "\"");
+        }
+        final long limit = Long.MAX_VALUE / radix;
+        long result = 0;
+        for (int i = 2; i < num.length(); i++) {
+            int digit = digit(num.charAt(i), radix);
+            if (result > limit || (result *= radix) > Long.MAX_VALUE - digit) {
+                throw new NumberFormatException("For input string: \"" + num + "\"");
+            }
+            result += digit;
+        }
+        return result;
+    }
+
+    static double parseDecimal(String num, boolean suffixes) throws NumberFormatException {
+        int end = num.length();
+        double mod = 1;
+        if (suffixes && end > 0) {
+            switch (num.charAt(end - 1)) {
+                case 'B':
+                case 'b':
+                    mod = 1000000000D;
+                    end--;
+                    break;
+                case 'M':
+                case 'm':
+                    mod = 1000000D;
+                    end--;
+                    break;
+                case 'K':
+                case 'k':
+                    mod = 1000D;
+                    end--;
+            }
+        }
+
+        int i = 0;
+        boolean negative = false;
+        if (end > 0 && (num.charAt(0) == '-' || num.charAt(0) == '+')) {
+            negative = num.charAt(0) == '-';
+            i++;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int scale = 0;
+        boolean anyDigit = false;
+        boolean decimal = false;
+        for (; i < end; i++) {
+            char c = num.charAt(i);
+            if (c >= '0' && c <= '9') {
+                anyDigit = true;
+                if (decimal) {
+                    scale++;
+                }
+                if (mantissa == 0 && c == '0') {
+                    continue;
+                }
+                if (++digits > MAX_EXACT_DIGITS) {
+                    return parseSlow(num, end, mod);
+                }
+                mantissa = mantissa * 10 + (c - '0');
+            } else if (c == '.' && !decimal) {
+                decimal = true;
+            } else {
+                return parseSlow(num, end, mod);
+            }
+        }
+        if (!anyDigit || scale >= POWERS_OF_TEN.length) {
+            return parseSlow(num, end, mod);
+        }
+        // Both operands are exact, so the single division is correctly rounded just like Double.parseDouble
+        double value = scale == 0 ? mantissa : mantissa / POWERS_OF_TEN[scale];
+        return (negative ? -value : value) * mod;
+    }
+
+    /**
+     * Parses any numeric literal, keeping hex and binary literals as exact {@link Long} values.
+     */
+    static Number parse(String num, boolean suffixes) throws NumberFormatException {
+        int radix = radix(num);
+        if (radix != 10) {
+            return parseRadix(num, radix);
+        }
+        return parseDecimal(num, suffixes);
+    }
+
+    /**
+     * @return Whether the input parses as a number, with or without a suffix
+     */
+    static boolean isNumber(String num) {
+        try {
+            parse(num, true);
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static int digit(char c, int radix) {
+        int digit;
+        if (c >= '0' && c <= '9') {
+            digit = c - '0';
+        } else if (c >= 'a' && c <= 'f') {
+            digit = c - 'a' + 10;
+        } else if (c >= 'A' && c <= 'F') {
+            digit = c - 'A' + 10;
+        } else {
+            return -1;
+        }
+        return digit < radix ? digit : -1;
+    }
+
+    private static double parseSlow(String num, int end, double mod) {
+        return Double.parseDouble(end == num.length() ? num : num.substring(0, end)) * mod;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2016-2017 Daniel Ennis (Aikar) - MIT License
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining
+ *  a copy of this software and associated documentation files (the
+ *  "Software"), to deal in the Software without restriction, including
+ *  without limitation the rights to use, copy, modify, merge, publish,
+ *  distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to
+ *  the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be
+ *  included in all copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ *  EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ *  MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ *  NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ *  LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ *  OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ *  WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package co.aikar.commands;
+
+import co.aikar.commands.annotation.RateLimit;
+
+import java.util.UUID;
+
+/**
+ * The execution and completion budgets declared by a {@link RateLimit} annotation, per issuer.
+ */
+final class RateLimiter {
+
+    final RateLimit rateLimit;
+    private final TokenBuckets executions;
+    private final TokenBuckets completions;
+
+    RateLimiter(RateLimit rateLimit) {
+        this.rateLimit = rateLimit;
+        long period = rateLimit.unit().toNanos(rateLimit.period());
+        this.executions = new TokenBuckets(rateLimit.value(), period);
+        this.completions = rateLimit.completions() > 0 ? new TokenBuckets(rateLimit.completions(), period) : null;
+    }
+
+    /**
+     * @return 0 if the issuer may execute the command now, otherwise how many nanoseconds they have to wait
+     */
+    long acquireExecution(CommandIssuer issuer) {
+        if (issuer.getManager().isRateLimitExempt(issuer)) {
+            return 0;
+        }
+        return executions.acquire(key(issuer), TokenBuckets.now());
+    }
+
+    boolean tryComplete(CommandIssuer issuer) {
+        return completions == null || issuer.getManager().isRateLimitExempt(issuer) || completions.acquire(key(issuer), TokenBuckets.now()) == 0;
+    }
+
+    private static long key(CommandIssuer issuer) {
+        UUID id = issuer.getUniqueId();
+        return TokenBuckets.key(id.getMostSignificantBits(), id.getLeastSignificantBits());
+    }
+}
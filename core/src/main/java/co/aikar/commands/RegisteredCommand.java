@@ -30,6 +30,7 @@ import co.aikar.commands.annotation.Conditions;
 import co.aikar.commands.annotation.Description;
 import co.aikar.commands.annotation.HelpSearchTags;
 import co.aikar.commands.annotation.Private;
+import co.aikar.commands.annotation.RateLimit;
 import co.aikar.commands.annotation.Syntax;
 import co.aikar.commands.contexts.ContextResolver;
 import org.jetbrains.annotations.Nullable;
@@ -42,7 +43,6 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -71,6 +71,7 @@ public class RegisteredCommand<CEC extends CommandExecutionContext<CEC, ? extend
     public String helpSearchTags;
 
     boolean isPrivate;
+    final RateLimiter rateLimiter;
 
     final int requiredResolvers;
     final int consumeInputResolvers;
@@ -98,6 +99,8 @@ public class RegisteredCommand<CEC extends CommandExecutionContext<CEC, ? extend
         this.conditions = annotations.getAnnotationValue(method, Conditions.class, Annotations.REPLACEMENTS | Annotations.NO_EMPTY);
         this.helpSearchTags = annotations.getAnnotationValue(method, HelpSearchTags.class, Annotations.REPLACEMENTS | Annotations.NO_EMPTY);
         this.syntaxText = annotations.getAnnotationValue(method, Syntax.class, Annotations.REPLACEMENTS);
+        RateLimit rateLimit = method.getAnnotation(RateLimit.class);
+        this.rateLimiter = rateLimit != null ? new RateLimiter(rateLimit) : scope.rateLimiter;
 
         Parameter[] parameters = method.getParameters();
         //noinspection unchecked
@@ -214,14 +217,23 @@ public class RegisteredCommand<CEC extends CommandExecutionContext<CEC, ? extend
 
     @Nullable
     Map<String, Object> resolveContexts(CommandIssuer sender, List<String> args, String name) throws InvalidCommandArgument {
-        args = new ArrayList<>(args);
-        String[] origArgs = args.toArray(new String[args.size()]);
-        Map<String, Object> passedArgs = new LinkedHashMap<>();
-        int remainingRequired = requiredResolvers;
+        ContextResolution resolution = new ContextResolution(this, args);
+        return resolveContexts(sender, resolution, name) ? resolution.passedArgs : null;
+    }
+
+    /**
+     * Resolves parameters from where the resolution left off, until the named one is resolved.
+     *
+     * @param name The parameter to stop at, or null to resolve them all.
+     * @return False if the syntax was shown to the issuer as a required parameter had no input.
+     */
+    boolean resolveContexts(CommandIssuer sender, ContextResolution resolution, String name) throws InvalidCommandArgument {
+        final List<String> args = resolution.args;
+        final Map<String, Object> passedArgs = resolution.passedArgs;
         CommandOperationContext opContext = CommandManager.getCurrentCommandOperationContext();
-        for (int i = 0; i < parameters.length && (name == null || !passedArgs.containsKey(name)); i++) {
+        for (int i = resolution.next; i < parameters.length && (name == null || !passedArgs.containsKey(name)); i++) {
             boolean isLast = i == parameters.length - 1;
-            boolean allowOptional = remainingRequired == 0;
+            boolean allowOptional = resolution.remainingRequired == 0;
             final CommandParameter<CEC> parameter = parameters[i];
             final String parameterName = parameter.getName();
             final Class<?> type = parameter.getType();
@@ -229,8 +241,8 @@ public class RegisteredCommand<CEC extends CommandExecutionContext<CEC, ? extend
             //noinspection unchecked
             CEC context = (CEC) this.manager.createCommandContext(this, parameter, sender, args, i, passedArgs);
             boolean requiresInput = parameter.requiresInput();
-            if (requiresInput && remainingRequired > 0) {
-                remainingRequired--;
+            if (requiresInput && resolution.remainingRequired > 0) {
+                resolution.remainingRequired--;
             }
 
             Set<String> parameterPermissions = parameter.getRequiredPermissions();
@@ -250,11 +262,11 @@ public class RegisteredCommand<CEC extends CommandExecutionContext<CEC, ? extend
                     }
                     //noinspection unchecked
                     this.manager.getCommandConditions().validateConditions(context, value);
-                    passedArgs.put(parameterName, value);
+                    resolution.resolved(i, parameterName, value);
                     continue;
                 } else if (requiresInput) {
                     scope.showSyntax(sender, this);
-                    return null;
+                    return false;
                 }
             } else {
                 if (!this.manager.hasPermission(sender, parameterPermissions)) {
@@ -268,12 +280,13 @@ public class RegisteredCommand<CEC extends CommandExecutionContext<CEC, ? extend
 
                 Set<String> possible = new HashSet<>();
                 CommandCompletions commandCompletions = this.manager.getCommandCompletions();
+                String[] origArgsArray = resolution.getOrigArgsArray();
                 for (String s : parameter.getValues()) {
                     if ("*".equals(s) || "@completions".equals(s)) {
-                        s = commandCompletions.findDefaultCompletion(this, origArgs);
+                        s = commandCompletions.findDefaultCompletion(this, origArgsArray);
                     }
                     //noinspection unchecked
-                    List<String> check = commandCompletions.getCompletionValues(this, sender, s, origArgs, opContext.isAsync());
+                    List<String> check = commandCompletions.getCompletionValues(this, sender, s, origArgsArray, opContext.isAsync(), false);
                     if (!check.isEmpty()) {
                         possible.addAll(check.stream().filter(Objects::nonNull).
                                 map(String::toLowerCase).collect(Collectors.toList()));
@@ -291,9 +304,9 @@ public class RegisteredCommand<CEC extends CommandExecutionContext<CEC, ? extend
 
             //noinspection unchecked
             this.manager.getCommandConditions().validateConditions(context, paramValue);
-            passedArgs.put(parameterName, paramValue);
+            resolution.resolved(i, parameterName, paramValue);
         }
-        return passedArgs;
+        return true;
     }
 
     boolean hasPermission(CommandIssuer issuer) {
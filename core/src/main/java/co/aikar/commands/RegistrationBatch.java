@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2016-2017 Daniel Ennis (Aikar) - MIT License
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining
+ *  a copy of this software and associated documentation files (the
+ *  "Software"), to deal in the Software without restriction, including
+ *  without limitation the rights to use, copy, modify, merge, publish,
+ *  distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to
+ *  the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be
+ *  included in all copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ *  EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ *  MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ *  NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ *  LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ *  OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ *  WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package co.aikar.commands;
+
+/**
+ * Defers the work that follows a change to the registered commands, such as rebuilding routing indexes,
+ * help pages and platform command trees, until the outermost batch is closed, so registering many
+ * commands only does it once.
+ * <p>
+ * Batches are meant to be used from the thread registering commands. Opening a batch while one is
+ * already open nests into it.
+ *
+ * @see CommandManager#batchRegistration()
+ */
+public class RegistrationBatch implements AutoCloseable {
+
+    private final CommandManager manager;
+    private int depth;
+    private boolean invalidated;
+
+    RegistrationBatch(CommandManager manager) {
+        this.manager = manager;
+    }
+
+    RegistrationBatch open() {
+        depth++;
+        return this;
+    }
+
+    /**
+     * @return If changes are currently being deferred until this batch is closed.
+     */
+    boolean isOpen() {
+        return depth > 0;
+    }
+
+    /**
+     * Records that the registered commands changed, if this batch is open.
+     *
+     * @return If the change was deferred, else it should be handled right away.
+     */
+    boolean deferInvalidation() {
+        if (depth == 0) {
+            return false;
+        }
+        invalidated = true;
+        return true;
+    }
+
+    @Override
+    public void close() {
+        if (depth == 0 || --depth > 0) {
+            return;
+        }
+        if (invalidated) {
+            invalidated = false;
+            manager.invalidateCommands();
+        }
+        manager.onRegistrationCommitted();
+    }
+}
@@ -25,10 +25,12 @@ package co.aikar.commands;
 
 import co.aikar.commands.CommandRouter.CommandRouteResult;
 import co.aikar.commands.CommandRouter.RouteSearch;
+import co.aikar.commands.apachecommonslang.ApacheCommonsLangUtil;
 import com.google.common.collect.SetMultimap;
 
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -49,6 +51,7 @@ public interface RootCommand {
         });
 
         children.add(command);
+        getManager().invalidateCommands();
     }
 
     /**
@@ -89,6 +92,18 @@ public interface RootCommand {
     }
 
     default BaseCommand execute(CommandIssuer sender, String commandLabel, String[] args) {
+        return execute(sender, commandLabel, new ArgumentCursor(args));
+    }
+
+    /**
+     * Executes the command for the given input, without copying the arguments along the way.
+     *
+     * @param sender       The issuer of the command.
+     * @param commandLabel The label the user used to execute the command.
+     * @param args         The arguments after the label.
+     * @return The command which handled the input.
+     */
+    default BaseCommand execute(CommandIssuer sender, String commandLabel, ArgumentCursor args) {
         CommandRouter router = getManager().getRouter();
         RouteSearch search = router.routeCommand(this, commandLabel, args, false);
         BaseCommand defCommand = getDefCommand();
@@ -106,7 +121,7 @@ public interface RootCommand {
             }
         }
 
-        defCommand.help(sender, args);
+        defCommand.help(sender, args.array());
         return defCommand;
     }
 
@@ -119,7 +134,8 @@ public interface RootCommand {
     }
 
     default List<String> getTabCompletions(CommandIssuer sender, String alias, String[] args, boolean commandsOnly, boolean isAsync) {
-        Set<String> completions = new HashSet<>();
+        // Keeps the order of ranked completions
+        Set<String> completions = new LinkedHashSet<>();
         getChildren().forEach(child -> {
             if (!commandsOnly) {
                 completions.addAll(child.tabComplete(sender, this, args, isAsync));
@@ -129,6 +145,47 @@ public interface RootCommand {
         return new ArrayList<>(completions);
     }
 
+    /**
+     * Tab completes arguments as split on spaces by the platform,
+     * parsing them as quoted arguments first if enabled with {@link CommandManager#useQuotedArguments(boolean)}.
+     */
+    default List<String> completeInput(CommandIssuer sender, String alias, String[] args, boolean isAsync) {
+        if (!getManager().usingQuotedArguments()) {
+            return getTabCompletions(sender, alias, args, false, isAsync);
+        }
+        return completeQuotedInput(sender, alias, String.join(" ", args), isAsync);
+    }
+
+    /**
+     * Tab completes raw argument input with quotes and escapes.
+     * <p>
+     * Platforms replace only the text after the last space, so when the argument being completed spans spaces,
+     * the part of it before the last space is removed from the completions.
+     */
+    default List<String> completeQuotedInput(CommandIssuer sender, String alias, String input, boolean isAsync) {
+        ACFTokenizer tokens = new ACFTokenizer(input, ' ', true);
+        List<String> args = new ArrayList<>();
+        int lastStart = 0;
+        while (tokens.next()) {
+            args.add(tokens.token());
+            lastStart = tokens.start();
+        }
+        List<String> completions = getTabCompletions(sender, alias, args.toArray(new String[0]), false, isAsync);
+
+        int lastSpace = input.lastIndexOf(' ');
+        if (lastSpace < lastStart) {
+            return completions;
+        }
+        String typed = ACFTokenizer.tokenize(input.substring(lastStart, lastSpace + 1))[0];
+        List<String> adjusted = new ArrayList<>(completions.size());
+        for (String completion : completions) {
+            if (completion != null && ApacheCommonsLangUtil.startsWithIgnoreCase(completion, typed)) {
+                adjusted.add(completion.substring(typed.length()));
+            }
+        }
+        return adjusted;
+    }
+
 
     default RegisteredCommand getDefaultRegisteredCommand() {
         BaseCommand defCommand = this.getDefCommand();
@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2016-2017 Daniel Ennis (Aikar) - MIT License
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining
+ *  a copy of this software and associated documentation files (the
+ *  "Software"), to deal in the Software without restriction, including
+ *  without limitation the rights to use, copy, modify, merge, publish,
+ *  distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to
+ *  the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be
+ *  included in all copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ *  EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ *  MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ *  NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ *  LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ *  OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ *  WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package co.aikar.commands;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Token buckets keyed by a long, stored in an open addressing table of primitive arrays.
+ * <p>
+ * Each bucket is a single "theoretical arrival time" (GCRA): taking a token is one compare and set, and a bucket
+ * whose arrival time has passed is full again, so it is indistinguishable from a missing one. Such idle buckets are
+ * handed over to new keys in place, which keeps the table sized to the keys active within one period instead of
+ * every key ever seen. The table is only rebuilt, without its idle buckets, when a key finds no free slot.
+ * <p>
+ * Tokens taken while the table is being rebuilt may be forgotten, which can only ever let a request through.
+ */
+final class TokenBuckets {
+
+    private static final int MAX_PROBES = 8;
+    private static final int MIN_SIZE = 64;
+    private static final long EMPTY = 0;
+    /**
+     * Arrival time of a bucket that was never used
+     */
+    private static final long FULL = 0;
+    /**
+     * Arrival time of a bucket that is being handed over to another key
+     */
+    private static final long CLAIMED = -1;
+    private static final long ORIGIN = System.nanoTime();
+
+    private final long interval;
+    private final long tolerance;
+    private volatile Table table = new Table(MIN_SIZE);
+
+    /**
+     * @param capacity How many tokens a bucket holds
+     * @param period   How long it takes a bucket to refill completely, in nanoseconds
+     */
+    TokenBuckets(int capacity, long period) {
+        if (capacity <= 0 || period <= 0) {
+            throw new IllegalArgumentException("Token buckets need a positive capacity and period");
+        }
+        this.interval = Math.max(1, period / capacity);
+        this.tolerance = this.interval * (capacity - 1);
+    }
+
+    /**
+     * @return The current time on the scale used by {@link #acquire(long, long)}, always positive
+     */
+    static long now() {
+        return System.nanoTime() - ORIGIN + 1;
+    }
+
+    /**
+     * Takes a token from the bucket of the given key.
+     *
+     * @param key The key of the bucket
+     * @param now The current time, see {@link #now()}
+     * @return 0 if a token was taken, otherwise how many nanoseconds until the next one is available
+     */
+    long acquire(long key, long now) {
+        if (key == EMPTY) {
+            key = 1;
+        }
+        while (true) {
+            Table table = this.table;
+            int slot = table.find(key, now);
+            if (slot < 0) {
+                rebuild(table, key, now);
+                continue;
+            }
+            long tat = table.tats.get(slot);
+            if (tat == CLAIMED || table.keys.get(slot) != key) {
+                // The bucket changed hands since we found it
+                continue;
+            }
+            long from = Math.max(tat, now);
+            long wait = from - tolerance - now;
+            if (wait > 0) {
+                return wait;
+            }
+            if (table.tats.compareAndSet(slot, tat, from + interval)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * @return How many slots the table currently has
+     */
+    int capacity() {
+        return table.size;
+    }
+
+    private synchronized void rebuild(Table current, long key, long now) {
+        if (this.table != current) {
+            return;
+        }
+        int live = 0;
+        for (int i = 0; i < current.size; i++) {
+            if (current.keys.get(i) != EMPTY && current.tats.get(i) > now) {
+                live++;
+            }
+        }
+        int size = live * 2 >= current.size ? current.size * 2 : current.size;
+        Table table;
+        do {
+            table = new Table(size);
+            size *= 2;
+        } while (!table.copyLive(current, now) || table.find(key, now) < 0);
+        this.table = table;
+    }
+
+    /**
+     * Folds a 128 bit id, like a UUID, into a bucket key. Ids sharing a key would share a bucket,
+     * which is not a concern for randomly generated ids.
+     */
+    static long key(long mostSigBits, long leastSigBits) {
+        return mostSigBits ^ leastSigBits * 0x9E3779B97F4A7C15L;
+    }
+
+    private static int spread(long key) {
+        key = (key ^ (key >>> 33)) * 0xFF51AFD7ED558CCDL;
+        return (int) (key ^ (key >>> 33));
+    }
+
+    private static final class Table {
+        private final int size;
+        private final int mask;
+        private final AtomicLongArray keys;
+        private final AtomicLongArray tats;
+
+        private Table(int size) {
+            this.size = size;
+            this.mask = size - 1;
+            this.keys = new AtomicLongArray(size);
+            this.tats = new AtomicLongArray(size);
+        }
+
+        /**
+         * @return The slot of the key, claiming an empty or idle one if it has none, or -1 if the table is too full
+         */
+        private int find(long key, long now) {
+            int start = spread(key) & mask;
+            int idle = -1;
+            for (int i = 0; i < MAX_PROBES; i++) {
+                int slot = (start + i) & mask;
+                long current = keys.get(slot);
+                if (current == key) {
+                    return slot;
+                }
+                if (current == EMPTY) {
+                    // Slots are never emptied, so the key can not be further along
+                    if (keys.compareAndSet(slot, EMPTY, key) || keys.get(slot) == key) {
+                        return slot;
+                    }
+                    continue;
+                }
+                if (idle == -1) {
+                    long tat = tats.get(slot);
+                    if (tat != CLAIMED && tat <= now) {
+                        idle = slot;
+                    }
+                }
+            }
+            if (idle != -1) {
+                long tat = tats.get(idle);
+                if (tat != CLAIMED && tat <= now && tats.compareAndSet(idle, tat, CLAIMED)) {
+                    keys.set(idle, key);
+                    tats.set(idle, FULL);
+                    return idle;
+                }
+                return find(key, now);
+            }
+            return -1;
+        }
+
+        private boolean copyLive(Table from, long now) {
+            for (int i = 0; i < from.size; i++) {
+                long key = from.keys.get(i);
+                long tat = from.tats.get(i);
+                if (key == EMPTY || tat <= now) {
+                    continue;
+                }
+                int slot = find(key, now);
+                if (slot < 0) {
+                    return false;
+                }
+                tats.set(slot, tat);
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2016-2017 Daniel Ennis (Aikar) - MIT License
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining
+ *  a copy of this software and associated documentation files (the
+ *  "Software"), to deal in the Software without restriction, including
+ *  without limitation the rights to use, copy, modify, merge, publish,
+ *  distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to
+ *  the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be
+ *  included in all copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ *  EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ *  MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ *  NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ *  LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ *  OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ *  WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package co.aikar.commands;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Memoizes which registered value applies to a type, so the class hierarchy is only walked once per type.
+ * <p>
+ * A type matches, in order: itself and its superclasses, the interfaces it implements, its primitive or wrapper
+ * counterpart, and finally {@link Object} when that is allowed. Misses are cached too.
+ * Call {@link #invalidate()} whenever the backing map changes.
+ */
+final class TypeLookup<V> {
+
+    private static final Object NONE = new Object();
+    private static final Map<Class<?>, Class<?>> COUNTERPARTS = new HashMap<>();
+
+    static {
+        addCounterpart(boolean.class, Boolean.class);
+        addCounterpart(byte.class, Byte.class);
+        addCounterpart(char.class, Character.class);
+        addCounterpart(short.class, Short.class);
+        addCounterpart(int.class, Integer.class);
+        addCounterpart(long.class, Long.class);
+        addCounterpart(float.class, Float.class);
+        addCounterpart(double.class, Double.class);
+    }
+
+    private final Map<? extends Class, V> values;
+    private final boolean matchObject;
+    private volatile ClassValue<Object> cache = newCache();
+
+    /**
+     * @param values      the registered values, looked up live until the next {@link #invalidate()}
+     * @param matchObject whether a value registered for {@link Object} applies to every type
+     */
+    TypeLookup(Map<? extends Class, V> values, boolean matchObject) {
+        this.values = values;
+        this.matchObject = matchObject;
+    }
+
+    V get(Class<?> type) {
+        Object value = cache.get(type);
+        //noinspection unchecked
+        return value != NONE ? (V) value : null;
+    }
+
+    void invalidate() {
+        // ClassValue can't be cleared, so swap it for a fresh one and let the old entries be collected
+        cache = newCache();
+    }
+
+    private ClassValue<Object> newCache() {
+        return new ClassValue<Object>() {
+            @Override
+            protected Object computeValue(Class<?> type) {
+                V value = find(type);
+                return value != null ? value : NONE;
+            }
+        };
+    }
+
+    private V find(Class<?> type) {
+        V value = findInHierarchy(type);
+        if (value == null && COUNTERPARTS.containsKey(type)) {
+            value = findInHierarchy(COUNTERPARTS.get(type));
+        }
+        if (value == null && matchObject) {
+            value = values.get(Object.class);
+        }
+        return value;
+    }
+
+    private V findInHierarchy(Class<?> type) {
+        for (Class<?> cls = type; cls != null && cls != Object.class; cls = cls.getSuperclass()) {
+            V value = values.get(cls);
+            if (value != null) {
+                return value;
+            }
+        }
+
+        // Breadth first, so directly implemented interfaces win over the ones they extend
+        Set<Class<?>> seen = new HashSet<>();
+        Deque<Class<?>> queue = new ArrayDeque<>();
+        for (Class<?> cls = type; cls != null; cls = cls.getSuperclass()) {
+            for (Class<?> iface : cls.getInterfaces()) {
+                if (seen.add(iface)) {
+                    queue.add(iface);
+                }
+            }
+        }
+        Class<?> iface;
+        while ((iface = queue.poll()) != null) {
+            V value = values.get(iface);
+            if (value != null) {
+                return value;
+            }
+            for (Class<?> parent : iface.getInterfaces()) {
+                if (seen.add(parent)) {
+                    queue.add(parent);
+                }
+            }
+        }
+        return null;
+    }
+
+    private static void addCounterpart(Class<?> primitive, Class<?> wrapper) {
+        COUNTERPARTS.put(primitive, wrapper);
+        COUNTERPARTS.put(wrapper, primitive);
+    }
+}
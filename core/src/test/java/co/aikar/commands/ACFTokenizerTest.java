@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2016-2017 Daniel Ennis (Aikar) - MIT License
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining
+ *  a copy of this software and associated documentation files (the
+ *  "Software"), to deal in the Software without restriction, including
+ *  without limitation the rights to use, copy, modify, merge, publish,
+ *  distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to
+ *  the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be
+ *  included in all copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ *  EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ *  MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ *  NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ *  LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ *  OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ *  WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package co.aikar.commands;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ACFTokenizerTest {
+
+    @Test
+    public void splitsLikePattern() {
+        Pattern comma = Pattern.compile(",");
+        for (String input : new String[]{"", ",", "a", "a,b", "a,,b", ",a", "a,", "a,,", ",,"}) {
+            for (int limit = -1; limit <= 3; limit++) {
+                assertArrayEquals(comma.split(input, limit), ACFTokenizer.split(input, ',', limit), input + " limit " + limit);
+            }
+            assertEquals(comma.split(input).length, ACFTokenizer.count(input, ','), input);
+        }
+    }
+
+    @Test
+    public void iteratesEveryToken() {
+        assertEquals(Arrays.asList("a", "", "b", ""), tokens(new ACFTokenizer("a,,b,", ',')));
+    }
+
+    @Test
+    public void quotedModeGroupsAndUnescapes() {
+        ACFTokenizer tokens = new ACFTokenizer("give \"Big Sword\"  it\\'s ", ' ', true);
+        assertEquals(Arrays.asList("give", "Big Sword", "it's", ""), tokens(tokens));
+
+        tokens = new ACFTokenizer("say \"hello wor", ' ', true);
+        tokens.next();
+        tokens.next();
+        assertEquals("hello wor", tokens.token());
+        assertEquals(4, tokens.start());
+        assertEquals(14, tokens.end());
+    }
+
+    @Test
+    public void tokenizesCommandInput() {
+        assertArrayEquals(new String[0], ACFTokenizer.tokenize(""));
+        assertArrayEquals(new String[]{"pay", "Some Player", "10"}, ACFTokenizer.tokenize("pay  'Some Player' 10"));
+        assertArrayEquals(new String[]{"a b", ""}, ACFTokenizer.tokenize("a\\ b "));
+    }
+
+    private static List<String> tokens(ACFTokenizer tokens) {
+        List<String> list = new ArrayList<>();
+        while (tokens.next()) {
+            list.add(tokens.token());
+        }
+        return list;
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2016-2019 Daniel Ennis (Aikar) - MIT License
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining
+ *  a copy of this software and associated documentation files (the
+ *  "Software"), to deal in the Software without restriction, including
+ *  without limitation the rights to use, copy, modify, merge, publish,
+ *  distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to
+ *  the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be
+ *  included in all copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ *  EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ *  MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ *  NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ *  LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ *  OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ *  WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package co.aikar.commands;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ArgumentCursorTest {
+
+    @Test
+    public void popsFromBothEndsWithoutTouchingInput() {
+        String[] input = {"label", "a", "b", "c"};
+        ArgumentCursor cursor = new ArgumentCursor(input, 1, input.length);
+        assertEquals(Arrays.asList("a", "b", "c"), cursor);
+        assertEquals("a", cursor.popFirst());
+        assertEquals("c", cursor.popLast());
+        assertEquals("b", cursor.remove(0));
+        assertTrue(cursor.isEmpty());
+        assertNull(cursor.popFirst());
+        assertArrayEquals(new String[]{"label", "a", "b", "c"}, input);
+    }
+
+    @Test
+    public void slicesAreIndependent() {
+        String[] input = {"a", "b", "c"};
+        ArgumentCursor cursor = new ArgumentCursor(input);
+        ArgumentCursor slice = cursor.slice(1);
+        slice.set(0, "x");
+        slice.add("d");
+        assertEquals(Arrays.asList("x", "c", "d"), slice);
+        assertEquals(Arrays.asList("a", "b", "c"), cursor);
+        assertArrayEquals(new String[]{"a", "b", "c"}, input);
+        assertEquals("x c d", slice.join(" "));
+        assertEquals("b c", cursor.join(" ", 1, 3));
+    }
+}
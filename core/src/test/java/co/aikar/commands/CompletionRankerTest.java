@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2016-2019 Daniel Ennis (Aikar) - MIT License
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining
+ *  a copy of this software and associated documentation files (the
+ *  "Software"), to deal in the Software without restriction, including
+ *  without limitation the rights to use, copy, modify, merge, publish,
+ *  distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to
+ *  the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be
+ *  included in all copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ *  EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ *  MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ *  NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ *  LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ *  OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ *  WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package co.aikar.commands;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class CompletionRankerTest {
+
+    @Test
+    public void ranksExactPrefixThenPrefixThenSubstring() {
+        List<String> candidates = Arrays.asList("xStone", "Stone", "stone", "cobblestone", "dirt", "stone", null, "stonebrick");
+        assertEquals(Arrays.asList("stone", "stonebrick", "Stone", "xStone", "cobblestone"),
+                CompletionRanker.top(candidates.iterator(), "stone", 10));
+    }
+
+    @Test
+    public void keepsOnlyTheBest() {
+        List<String> candidates = Arrays.asList("abc", "xab", "ABd", "abe", "yab", "abf");
+        assertEquals(Arrays.asList("abc", "abe", "abf"), CompletionRanker.top(candidates.iterator(), "ab", 3));
+        assertEquals(Arrays.asList("abc", "abe", "abf", "ABd"), CompletionRanker.top(candidates.iterator(), "ab", 4));
+    }
+
+    @Test
+    public void stopsOnceEnoughExactPrefixMatches() {
+        AtomicInteger consumed = new AtomicInteger();
+        Iterator<String> candidates = IntStream.range(0, 1_000_000)
+                .mapToObj(i -> "player" + i)
+                .peek(name -> consumed.incrementAndGet())
+                .iterator();
+        List<String> top = CompletionRanker.top(candidates, "player1", 5);
+        assertEquals(Arrays.asList("player1", "player10", "player11", "player12", "player13"), top);
+        assertEquals(14, consumed.get());
+    }
+}
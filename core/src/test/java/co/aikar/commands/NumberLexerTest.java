@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2016-2017 Daniel Ennis (Aikar) - MIT License
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining
+ *  a copy of this software and associated documentation files (the
+ *  "Software"), to deal in the Software without restriction, including
+ *  without limitation the rights to use, copy, modify, merge, publish,
+ *  distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to
+ *  the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be
+ *  included in all copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ *  EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ *  MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ *  NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ *  LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ *  OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ *  WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package co.aikar.commands;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class NumberLexerTest {
+
+    @Test
+    public void parsesRadixLiterals() {
+        assertEquals(255L, NumberLexer.parse("0xFF", false));
+        assertEquals(5L, NumberLexer.parse("0b101", false));
+        assertEquals(Long.MAX_VALUE, NumberLexer.parse("0x7FFFFFFFFFFFFFFF", false));
+        assertThrows(NumberFormatException.class, () -> NumberLexer.parse("0x8000000000000000", false));
+        assertThrows(NumberFormatException.class, () -> NumberLexer.parse("0x", false));
+    }
+
+    @Test
+    public void matchesDoubleParsing() {
+        for (String num : new String[]{"0", "-0", "+12", "0.1", "-3.75", "5.", ".5", "1e5", "123456789012345678", "0.30000000000000004"}) {
+            assertEquals(Double.parseDouble(num), NumberLexer.parse(num, false), num);
+        }
+        assertThrows(NumberFormatException.class, () -> NumberLexer.parse("", false));
+        assertThrows(NumberFormatException.class, () -> NumberLexer.parse("-", false));
+        assertThrows(NumberFormatException.class, () -> NumberLexer.parse("1.2.3", false));
+    }
+
+    @Test
+    public void appliesSuffixes() {
+        assertEquals(1500D, NumberLexer.parseDecimal("1.5k", true));
+        assertEquals(2000000D, NumberLexer.parseDecimal("2M", true));
+        assertEquals(3000000000D, NumberLexer.parseDecimal("3b", true));
+        assertThrows(NumberFormatException.class, () -> NumberLexer.parseDecimal("1.5k", false));
+        assertThrows(NumberFormatException.class, () -> NumberLexer.parseDecimal("k", true));
+    }
+}
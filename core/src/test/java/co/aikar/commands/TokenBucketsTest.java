@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2016-2019 Daniel Ennis (Aikar) - MIT License
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining
+ *  a copy of this software and associated documentation files (the
+ *  "Software"), to deal in the Software without restriction, including
+ *  without limitation the rights to use, copy, modify, merge, publish,
+ *  distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to
+ *  the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be
+ *  included in all copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ *  EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ *  MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ *  NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ *  LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ *  OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ *  WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package co.aikar.commands;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TokenBucketsTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    public void allowsBurstThenWaitsForRefill() {
+        TokenBuckets buckets = new TokenBuckets(3, SECOND);
+        long now = SECOND;
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, buckets.acquire(42, now));
+        }
+        long wait = buckets.acquire(42, now);
+        assertTrue(wait > 0 && wait <= SECOND / 3, "wait " + wait);
+        assertEquals(0, buckets.acquire(7, now), "other keys have their own bucket");
+        assertEquals(0, buckets.acquire(42, now + wait));
+        assertTrue(buckets.acquire(42, now + wait) > 0);
+    }
+
+    @Test
+    public void idleBucketsAreReused() {
+        TokenBuckets buckets = new TokenBuckets(1, SECOND);
+        long now = SECOND;
+        for (int round = 0; round < 100; round++) {
+            for (int key = 1; key <= 32; key++) {
+                assertEquals(0, buckets.acquire(round * 1000L + key, now));
+            }
+            now += 2 * SECOND;
+        }
+        assertTrue(buckets.capacity() <= 128, "capacity " + buckets.capacity());
+    }
+
+    @Test
+    public void growsWithActiveKeys() {
+        TokenBuckets buckets = new TokenBuckets(1, SECOND);
+        long now = SECOND;
+        for (int key = 1; key <= 1000; key++) {
+            assertEquals(0, buckets.acquire(key, now));
+        }
+        for (int key = 1; key <= 1000; key++) {
+            assertTrue(buckets.acquire(key, now) > 0, "key " + key);
+        }
+    }
+
+    @Test
+    public void concurrentAcquiresNeverOverspend() throws InterruptedException {
+        TokenBuckets buckets = new TokenBuckets(1000, TimeUnit.HOURS.toNanos(1));
+        long now = SECOND;
+        AtomicInteger granted = new AtomicInteger();
+        Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < 500; j++) {
+                    if (buckets.acquire(42, now) == 0) {
+                        granted.incrementAndGet();
+                    }
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(1000, granted.get());
+    }
+}
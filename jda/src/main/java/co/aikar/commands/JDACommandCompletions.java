@@ -36,7 +36,7 @@ public class JDACommandCompletions extends CommandCompletions<CommandCompletionC
     }
 
     @Override
-    List<String> getCompletionValues(RegisteredCommand command, CommandIssuer sender, String completion, String[] args, boolean isAsync) {
+    List<String> getCompletionValues(RegisteredCommand command, CommandIssuer sender, String completion, String[] args, boolean isAsync, boolean ranked) {
         return Collections.emptyList();
     }
 }
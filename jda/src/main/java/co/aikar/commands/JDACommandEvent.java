@@ -5,6 +5,7 @@ import net.dv8tion.jda.api.entities.MessageEmbed;
 import net.dv8tion.jda.api.events.message.MessageReceivedEvent;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.List;
 import java.util.UUID;
 
 public class JDACommandEvent implements CommandIssuer {
@@ -56,6 +57,27 @@ public class JDACommandEvent implements CommandIssuer {
         this.event.getChannel().sendMessage(message).queue();
     }
 
+    /**
+     * Merges the lines into as few Discord messages as possible, to avoid hitting rate limits.
+     */
+    @Override
+    public void sendMessagesInternal(List<String> lines) {
+        StringBuilder message = new StringBuilder();
+        for (String line : lines) {
+            if (message.length() > 0 && message.length() + 1 + line.length() > Message.MAX_CONTENT_LENGTH) {
+                sendMessageInternal(message.toString());
+                message.setLength(0);
+            }
+            if (message.length() > 0) {
+                message.append('\n');
+            }
+            message.append(line);
+        }
+        if (message.length() > 0) {
+            sendMessageInternal(message.toString());
+        }
+    }
+
     public void sendMessage(Message message) {
         this.event.getChannel().sendMessage(message).queue();
     }
@@ -8,7 +8,6 @@ import net.dv8tion.jda.api.entities.Message;
 import net.dv8tion.jda.api.events.message.MessageReceivedEvent;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -172,6 +171,7 @@ public class JDACommandManager extends CommandManager<
                 commands.remove(jdaCommandName);
             }
         }
+        invalidateCommands();
     }
 
     @Override
@@ -251,7 +251,8 @@ public class JDACommandManager extends CommandManager<
             return;
         }
 
-        String[] args = ACFPatterns.SPACE.split(msg.substring(prefixFound.length()), -1);
+        String input = msg.substring(prefixFound.length());
+        String[] args = useQuotedArguments ? ACFTokenizer.tokenize(input) : ACFTokenizer.split(input, ' ', -1);
         if (args.length == 0) {
             return;
         }
@@ -260,12 +261,7 @@ public class JDACommandManager extends CommandManager<
         if (rootCommand == null) {
             return;
         }
-        if (args.length > 1) {
-            args = Arrays.copyOfRange(args, 1, args.length);
-        } else {
-            args = new String[0];
-        }
-        rootCommand.execute(this.getCommandIssuer(event), cmd, args);
+        rootCommand.execute(this.getCommandIssuer(event), cmd, new ArgumentCursor(args, 1, args.length));
     }
 
     private CommandConfig getCommandConfig(MessageReceivedEvent event) {
@@ -6,37 +6,52 @@ import java.util.Collections;
 import java.util.List;
 
 public class JDACommandCompletions extends CommandCompletions<CommandCompletionContext<?>> {
+    private final boolean supported;
     private boolean initialized;
 
     public JDACommandCompletions(CommandManager manager) {
+        this(manager, false);
+    }
+
+    /**
+     * @param supported Whether completions are available, which is only the case for slash command auto completion.
+     */
+    public JDACommandCompletions(CommandManager manager, boolean supported) {
         super(manager);
+        this.supported = supported;
         this.initialized = true;
     }
 
     @Override
     public CommandCompletionHandler registerCompletion(String id, CommandCompletionHandler<CommandCompletionContext<?>> handler) {
-        if (initialized) {
-            throw new UnsupportedOperationException("JDA Doesn't support Command Completions");
+        if (!initialized || supported) {
+            return super.registerCompletion(id, handler);
         }
-        return null;
+        throw new UnsupportedOperationException("JDA Doesn't support Command Completions without slash commands");
     }
 
     @Override
     public CommandCompletionHandler registerAsyncCompletion(String id, AsyncCommandCompletionHandler<CommandCompletionContext<?>> handler) {
-        if (initialized) {
-            throw new UnsupportedOperationException("JDA Doesn't support Command Completions");
+        if (!initialized || supported) {
+            return super.registerAsyncCompletion(id, handler);
         }
-        return null;
+        throw new UnsupportedOperationException("JDA Doesn't support Command Completions without slash commands");
     }
 
     @NotNull
     @Override
     List<String> of(RegisteredCommand command, CommandIssuer sender, String[] args, boolean isAsync) {
+        if (supported) {
+            return super.of(command, sender, args, isAsync);
+        }
         return Collections.emptyList();
     }
 
     @Override
-    List<String> getCompletionValues(RegisteredCommand command, CommandIssuer sender, String completion, String[] args, boolean isAsync) {
+    List<String> getCompletionValues(RegisteredCommand command, CommandIssuer sender, String completion, String[] args, boolean isAsync, boolean ranked) {
+        if (supported) {
+            return super.getCompletionValues(command, sender, completion, args, isAsync, ranked);
+        }
         return Collections.emptyList();
     }
 }
@@ -25,31 +25,43 @@ public class JDACommandContexts extends CommandContexts<JDACommandExecutionConte
         this.manager = manager;
         this.jda = this.manager.getJDA();
         this.registerIssuerOnlyContext(JDACommandEvent.class, CommandExecutionContext::getIssuer);
-        this.registerIssuerOnlyContext(MessageReceivedEvent.class, c -> c.getIssuer().getIssuer());
-        this.registerIssuerOnlyContext(Message.class, c -> c.issuer.getIssuer().getMessage());
-        this.registerIssuerOnlyContext(ChannelType.class, c -> c.issuer.getIssuer().getChannelType());
+        this.registerIssuerOnlyContext(MessageReceivedEvent.class, c -> {
+            MessageReceivedEvent event = c.getIssuer().getIssuer();
+            if (event == null && !c.isOptional()) {
+                throw new InvalidCommandArgument("This command can only be executed from a message.", false);
+            }
+            return event;
+        });
+        this.registerIssuerOnlyContext(Message.class, c -> {
+            MessageReceivedEvent event = c.issuer.getEvent();
+            if (event == null && !c.isOptional()) {
+                throw new InvalidCommandArgument("This command can only be executed from a message.", false);
+            }
+            return event != null ? event.getMessage() : null;
+        });
+        this.registerIssuerOnlyContext(ChannelType.class, c -> c.issuer.getChannelType());
         this.registerIssuerOnlyContext(JDA.class, c -> jda);
         this.registerIssuerOnlyContext(Guild.class, c -> {
-            MessageReceivedEvent event = c.getIssuer().getIssuer();
-            if (event.isFromType(ChannelType.PRIVATE) && !c.isOptional()) {
+            Guild guild = c.getIssuer().getGuild();
+            if (guild == null && !c.isOptional()) {
                 throw new InvalidCommandArgument("This command can only be executed in a Guild.", false);
             } else {
-                return event.getGuild();
+                return guild;
             }
         });
         this.registerIssuerAwareContext(MessageChannel.class, c -> {
             if (c.hasAnnotation(Author.class)) {
-                return c.issuer.getIssuer().getChannel();
+                return c.issuer.getChannel();
             }
             boolean isCrossGuild = c.hasAnnotation(CrossGuild.class);
             String argument = c.popFirstArg(); // we pop because we are only issuer aware if we are annotated
             MessageChannel channel = null;
             if (argument.startsWith("<#")) {
                 String id = argument.substring(2, argument.length() - 1);
-                channel = isCrossGuild ? jda.getTextChannelById(id) : c.issuer.getIssuer().getGuild().getTextChannelById(id);
+                channel = isCrossGuild ? jda.getTextChannelById(id) : c.issuer.getGuild().getTextChannelById(id);
             } else {
                 List<TextChannel> channelList = isCrossGuild ? jda.getTextChannelsByName(argument, true) :
-                        c.issuer.getEvent().getGuild().getTextChannelsByName(argument, true);
+                        c.issuer.getGuild().getTextChannelsByName(argument, true);
                 if (channelList.size() > 1) {
                     throw new InvalidCommandArgument("Too many channels were found with the given name. Try with the `#channelname` syntax.", false);
                 } else if (channelList.size() == 1) {
@@ -95,10 +107,10 @@ public class JDACommandContexts extends CommandContexts<JDACommandExecutionConte
             Role role = null;
             if (arg.startsWith("<@&")) {
                 String id = arg.substring(3, arg.length() - 1);
-                role = isCrossGuild ? jda.getRoleById(id) : c.issuer.getIssuer().getGuild().getRoleById(id);
+                role = isCrossGuild ? jda.getRoleById(id) : c.issuer.getGuild().getRoleById(id);
             } else {
                 List<Role> roles = isCrossGuild ? jda.getRolesByName(arg, true)
-                        : c.issuer.getIssuer().getGuild().getRolesByName(arg, true);
+                        : c.issuer.getGuild().getRolesByName(arg, true);
                 if (roles.size() > 1) {
                     throw new InvalidCommandArgument("Too many roles were found with the given name. Try with the `@role` syntax.", false);
                 }
@@ -1,11 +1,17 @@
 package co.aikar.commands;
 
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.Member;
 import net.dv8tion.jda.api.entities.Message;
 import net.dv8tion.jda.api.entities.MessageEmbed;
+import net.dv8tion.jda.api.entities.User;
+import net.dv8tion.jda.api.entities.channel.ChannelType;
+import net.dv8tion.jda.api.entities.channel.middleman.MessageChannel;
 import net.dv8tion.jda.api.events.message.MessageReceivedEvent;
 import net.dv8tion.jda.api.utils.messages.MessageCreateData;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.List;
 import java.util.UUID;
 
 public class JDACommandEvent implements CommandIssuer {
@@ -19,6 +25,9 @@ public class JDACommandEvent implements CommandIssuer {
         this.event = event;
     }
 
+    /**
+     * @return The message event this command was issued with, or null if it was issued through an interaction.
+     */
     public MessageReceivedEvent getEvent() {
         return event;
     }
@@ -28,6 +37,26 @@ public class JDACommandEvent implements CommandIssuer {
         return event;
     }
 
+    public User getUser() {
+        return event.getAuthor();
+    }
+
+    public Member getMember() {
+        return event.getMember();
+    }
+
+    public Guild getGuild() {
+        return event.isFromGuild() ? event.getGuild() : null;
+    }
+
+    public MessageChannel getChannel() {
+        return event.getChannel();
+    }
+
+    public ChannelType getChannelType() {
+        return event.getChannelType();
+    }
+
     @Override
     public CommandManager getManager() {
         return this.manager;
@@ -42,7 +71,7 @@ public class JDACommandEvent implements CommandIssuer {
     public @NotNull UUID getUniqueId() {
         // Discord id only have 64 bit width (long) while UUIDs have twice the size.
         // In order to keep it unique we use 0L for the first 64 bit.
-        long authorId = event.getAuthor().getIdLong();
+        long authorId = getUser().getIdLong();
         return new UUID(0, authorId);
     }
 
@@ -57,6 +86,27 @@ public class JDACommandEvent implements CommandIssuer {
         this.event.getChannel().sendMessage(message).queue();
     }
 
+    /**
+     * Merges the lines into as few Discord messages as possible, to avoid hitting rate limits.
+     */
+    @Override
+    public void sendMessagesInternal(List<String> lines) {
+        StringBuilder message = new StringBuilder();
+        for (String line : lines) {
+            if (message.length() > 0 && message.length() + 1 + line.length() > Message.MAX_CONTENT_LENGTH) {
+                sendMessageInternal(message.toString());
+                message.setLength(0);
+            }
+            if (message.length() > 0) {
+                message.append('\n');
+            }
+            message.append(line);
+        }
+        if (message.length() > 0) {
+            sendMessageInternal(message.toString());
+        }
+    }
+
     public void sendMessage(Message message) {
         this.event.getChannel().sendMessage(MessageCreateData.fromMessage(message)).queue();
     }
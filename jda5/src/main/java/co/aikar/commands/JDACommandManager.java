@@ -4,10 +4,10 @@ import co.aikar.commands.apachecommonslang.ApacheCommonsExceptionUtil;
 import net.dv8tion.jda.api.JDA;
 import net.dv8tion.jda.api.entities.channel.ChannelType;
 import net.dv8tion.jda.api.entities.Message;
+import net.dv8tion.jda.api.events.interaction.GenericInteractionCreateEvent;
 import net.dv8tion.jda.api.events.message.MessageReceivedEvent;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -35,6 +35,7 @@ public class JDACommandManager extends CommandManager<
     private CommandConfig defaultConfig;
     private CommandConfigProvider configProvider;
     private CommandPermissionResolver permissionResolver;
+    private JDASlashCommands slashCommands;
     private long botOwner = 0L;
 
     public JDACommandManager(JDA jda) {
@@ -51,29 +52,32 @@ public class JDACommandManager extends CommandManager<
         this.defaultConfig = options.defaultConfig == null ? new JDACommandConfig() : options.defaultConfig;
         this.configProvider = options.configProvider;
         this.defaultFormatter = new JDAMessageFormatter();
-        this.completions = new JDACommandCompletions(this);
+        this.completions = new JDACommandCompletions(this, options.slashCommands);
+        if (options.slashCommands) {
+            this.slashCommands = new JDASlashCommands(this);
+        }
         this.logger = Logger.getLogger(this.getClass().getSimpleName());
 
         getCommandConditions().addCondition("owneronly", context -> {
-            if (context.getIssuer().getEvent().getAuthor().getIdLong() != getBotOwnerId()) {
+            if (context.getIssuer().getUser().getIdLong() != getBotOwnerId()) {
                 throw new ConditionFailedException("Only the bot owner can use this command."); // TODO: MessageKey
             }
         });
 
         getCommandConditions().addCondition("guildonly", context -> {
-            if (context.getIssuer().getEvent().getChannelType() != ChannelType.TEXT) {
+            if (context.getIssuer().getChannelType() != ChannelType.TEXT) {
                 throw new ConditionFailedException("This command must be used in guild chat."); // TODO: MessageKey
             }
         });
 
         getCommandConditions().addCondition("privateonly", context -> {
-            if (context.getIssuer().getEvent().getChannelType() != ChannelType.PRIVATE) {
+            if (context.getIssuer().getChannelType() != ChannelType.PRIVATE) {
                 throw new ConditionFailedException("This command must be used in private chat."); // TODO: MessageKey
             }
         });
 
         getCommandConditions().addCondition("grouponly", context -> {
-            if (context.getIssuer().getEvent().getChannelType() != ChannelType.GROUP) {
+            if (context.getIssuer().getChannelType() != ChannelType.GROUP) {
                 throw new ConditionFailedException("This command must be used in group chat."); // TODO: MessageKey
             }
         });
@@ -131,6 +135,24 @@ public class JDACommandManager extends CommandManager<
         this.permissionResolver = permissionResolver;
     }
 
+    /**
+     * @return The slash command support of this manager, or null if it was not enabled with {@link JDAOptions#slashCommands(boolean)}
+     */
+    public JDASlashCommands getSlashCommands() {
+        return slashCommands;
+    }
+
+    /**
+     * Registers all commands as global slash commands with Discord, if they changed since the last sync.
+     * Call this after registering your commands.
+     */
+    public void syncSlashCommands() {
+        if (slashCommands == null) {
+            throw new IllegalStateException("Slash commands are not enabled, see JDAOptions#slashCommands");
+        }
+        slashCommands.sync();
+    }
+
     @Override
     public CommandContexts<?> getCommandContexts() {
         if (this.contexts == null) {
@@ -155,6 +177,9 @@ public class JDACommandManager extends CommandManager<
                 commands.put(commandName, cmd);
             }
         }
+        if (slashCommands != null) {
+            slashCommands.invalidate();
+        }
     }
 
     public void unregisterCommand(BaseCommand command) {
@@ -167,6 +192,10 @@ public class JDACommandManager extends CommandManager<
                 commands.remove(jdaCommandName);
             }
         }
+        invalidateCommands();
+        if (slashCommands != null) {
+            slashCommands.invalidate();
+        }
     }
 
     @Override
@@ -181,6 +210,9 @@ public class JDACommandManager extends CommandManager<
 
     @Override
     public JDACommandEvent getCommandIssuer(Object issuer) {
+        if (issuer instanceof GenericInteractionCreateEvent) {
+            return new JDASlashCommandEvent(this, (GenericInteractionCreateEvent) issuer);
+        }
         if (!(issuer instanceof MessageReceivedEvent)) {
             throw new IllegalArgumentException(issuer.getClass().getName() + " is not a Message Received Event.");
         }
@@ -246,7 +278,8 @@ public class JDACommandManager extends CommandManager<
             return;
         }
 
-        String[] args = ACFPatterns.SPACE.split(msg.substring(prefixFound.length()), -1);
+        String input = msg.substring(prefixFound.length());
+        String[] args = useQuotedArguments ? ACFTokenizer.tokenize(input) : ACFTokenizer.split(input, ' ', -1);
         if (args.length == 0) {
             return;
         }
@@ -255,12 +288,7 @@ public class JDACommandManager extends CommandManager<
         if (rootCommand == null) {
             return;
         }
-        if (args.length > 1) {
-            args = Arrays.copyOfRange(args, 1, args.length);
-        } else {
-            args = new String[0];
-        }
-        rootCommand.execute(this.getCommandIssuer(event), cmd, args);
+        rootCommand.execute(this.getCommandIssuer(event), cmd, new ArgumentCursor(args, 1, args.length));
     }
 
     private CommandConfig getCommandConfig(MessageReceivedEvent event) {
@@ -277,6 +305,9 @@ public class JDACommandManager extends CommandManager<
 
     @Override
     public String getCommandPrefix(CommandIssuer issuer) {
+        if (issuer instanceof JDASlashCommandEvent) {
+            return "/";
+        }
         MessageReceivedEvent event = ((JDACommandEvent) issuer).getEvent();
         CommandConfig commandConfig = getCommandConfig(event);
         List<String> prefixes = commandConfig.getCommandPrefixes();
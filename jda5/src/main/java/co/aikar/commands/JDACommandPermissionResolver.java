@@ -1,6 +1,7 @@
 package co.aikar.commands;
 
 import net.dv8tion.jda.api.Permission;
+import net.dv8tion.jda.api.entities.Member;
 
 import java.util.HashMap;
 import java.util.Locale;
@@ -19,12 +20,12 @@ public class JDACommandPermissionResolver implements CommandPermissionResolver {
     @Override
     public boolean hasPermission(JDACommandManager manager, JDACommandEvent event, String permission) {
         // Explicitly return true if the issuer is the bot's owner. They are always allowed.
-        if (manager.getBotOwnerId() == event.getIssuer().getAuthor().getIdLong()) {
+        if (manager.getBotOwnerId() == event.getUser().getIdLong()) {
             return true;
         }
 
         // Return false on webhook messages, as they cannot have permissions defined.
-        if (event.getIssuer().isWebhookMessage()) {
+        if (event.getEvent() != null && event.getEvent().isWebhookMessage()) {
             return false;
         }
 
@@ -33,7 +34,12 @@ public class JDACommandPermissionResolver implements CommandPermissionResolver {
             return false;
         }
 
-        return event.getIssuer().getMember().hasPermission(
+        Member member = event.getMember();
+        if (member == null) {
+            return false;
+        }
+
+        return member.hasPermission(
                 Permission.getFromOffset(permissionOffset)
         );
     }
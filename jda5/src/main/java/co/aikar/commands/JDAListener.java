@@ -1,6 +1,8 @@
 package co.aikar.commands;
 
 import net.dv8tion.jda.api.entities.channel.ChannelType;
+import net.dv8tion.jda.api.events.interaction.command.CommandAutoCompleteInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
 import net.dv8tion.jda.api.events.message.MessageReceivedEvent;
 import net.dv8tion.jda.api.events.session.GenericSessionEvent;
 import net.dv8tion.jda.api.events.session.SessionState;
@@ -23,6 +25,22 @@ public class JDAListener extends ListenerAdapter {
         }
     }
 
+    @Override
+    public void onSlashCommandInteraction(@NotNull SlashCommandInteractionEvent event) {
+        JDASlashCommands slashCommands = this.manager.getSlashCommands();
+        if (slashCommands != null) {
+            slashCommands.dispatch(event);
+        }
+    }
+
+    @Override
+    public void onCommandAutoCompleteInteraction(@NotNull CommandAutoCompleteInteractionEvent event) {
+        JDASlashCommands slashCommands = this.manager.getSlashCommands();
+        if (slashCommands != null) {
+            slashCommands.complete(event);
+        }
+    }
+
     @Override
     public void onGenericSession(@NotNull GenericSessionEvent event) {
         if (event.getState() == SessionState.READY) {
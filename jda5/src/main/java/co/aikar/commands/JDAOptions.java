@@ -7,6 +7,7 @@ public class JDAOptions {
     CommandConfig defaultConfig = new JDACommandConfig();
     CommandConfigProvider configProvider = null;
     CommandPermissionResolver permissionResolver = new JDACommandPermissionResolver();
+    boolean slashCommands = false;
 
     public JDAOptions() {
     }
@@ -26,6 +27,15 @@ public class JDAOptions {
         return this;
     }
 
+    /**
+     * Enables dispatching of slash command and auto complete interactions to ACF commands.
+     * Commands still need to be registered with Discord by calling {@link JDACommandManager#syncSlashCommands()}.
+     */
+    public JDAOptions slashCommands(boolean slashCommands) {
+        this.slashCommands = slashCommands;
+        return this;
+    }
+
     public JDACommandManager create(JDA jda) {
         return new JDACommandManager(jda, this);
     }
@@ -0,0 +1,84 @@
+package co.aikar.commands;
+
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.entities.Message;
+import net.dv8tion.jda.api.entities.MessageEmbed;
+import net.dv8tion.jda.api.entities.User;
+import net.dv8tion.jda.api.entities.channel.ChannelType;
+import net.dv8tion.jda.api.entities.channel.middleman.MessageChannel;
+import net.dv8tion.jda.api.events.interaction.GenericInteractionCreateEvent;
+import net.dv8tion.jda.api.interactions.callbacks.IReplyCallback;
+import net.dv8tion.jda.api.utils.messages.MessageCreateData;
+
+/**
+ * A command issuer backed by a Discord interaction (slash command or auto complete request) instead of a message.
+ * <p>
+ * Replies are sent as the interaction response when it has not been acknowledged yet, and as follow up messages after.
+ */
+public class JDASlashCommandEvent extends JDACommandEvent {
+
+    private final GenericInteractionCreateEvent interaction;
+
+    public JDASlashCommandEvent(JDACommandManager manager, GenericInteractionCreateEvent interaction) {
+        super(manager, null);
+        this.interaction = interaction;
+    }
+
+    public GenericInteractionCreateEvent getInteraction() {
+        return interaction;
+    }
+
+    @Override
+    public User getUser() {
+        return interaction.getUser();
+    }
+
+    @Override
+    public Member getMember() {
+        return interaction.getMember();
+    }
+
+    @Override
+    public Guild getGuild() {
+        return interaction.getGuild();
+    }
+
+    @Override
+    public MessageChannel getChannel() {
+        return interaction.getMessageChannel();
+    }
+
+    @Override
+    public ChannelType getChannelType() {
+        return interaction.getChannelType();
+    }
+
+    @Override
+    public void sendMessageInternal(String message) {
+        send(MessageCreateData.fromContent(message));
+    }
+
+    @Override
+    public void sendMessage(Message message) {
+        send(MessageCreateData.fromMessage(message));
+    }
+
+    @Override
+    public void sendMessage(MessageEmbed message) {
+        send(MessageCreateData.fromEmbeds(message));
+    }
+
+    private void send(MessageCreateData data) {
+        if (!(interaction instanceof IReplyCallback)) {
+            // Auto complete interactions can only answer with choices
+            return;
+        }
+        IReplyCallback callback = (IReplyCallback) interaction;
+        if (!callback.isAcknowledged()) {
+            callback.reply(data).queue();
+        } else {
+            callback.getHook().sendMessage(data).queue();
+        }
+    }
+}
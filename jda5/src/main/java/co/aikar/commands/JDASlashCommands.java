@@ -0,0 +1,518 @@
+package co.aikar.commands;
+
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.Role;
+import net.dv8tion.jda.api.entities.User;
+import net.dv8tion.jda.api.entities.channel.middleman.MessageChannel;
+import net.dv8tion.jda.api.events.interaction.command.CommandAutoCompleteInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
+import net.dv8tion.jda.api.interactions.AutoCompleteQuery;
+import net.dv8tion.jda.api.interactions.commands.Command;
+import net.dv8tion.jda.api.interactions.commands.OptionMapping;
+import net.dv8tion.jda.api.interactions.commands.OptionType;
+import net.dv8tion.jda.api.interactions.commands.build.CommandData;
+import net.dv8tion.jda.api.interactions.commands.build.Commands;
+import net.dv8tion.jda.api.interactions.commands.build.OptionData;
+import net.dv8tion.jda.api.interactions.commands.build.SlashCommandData;
+import net.dv8tion.jda.api.interactions.commands.build.SubcommandData;
+import net.dv8tion.jda.api.interactions.commands.build.SubcommandGroupData;
+import net.dv8tion.jda.api.requests.RestAction;
+import net.dv8tion.jda.api.requests.restaction.CommandListUpdateAction;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * Compiles the registered ACF command tree into Discord slash commands, and dispatches slash command and
+ * auto complete interactions directly to the matching {@link RegisteredCommand}.
+ * <p>
+ * Discord already parses the input into typed options, so no prefix scanning, splitting or routing is needed.
+ * <p>
+ * Syncing uses a single bulk overwrite per scope, and only when the compiled commands differ from what Discord
+ * already knows. Note that a bulk overwrite replaces every command of the application in that scope.
+ */
+public class JDASlashCommands {
+
+    private static final long GLOBAL_SCOPE = 0L;
+    private static final int MAX_CHOICES = 25;
+    private static final int MAX_OPTIONS = 25;
+    private static final int MAX_DESCRIPTION_LENGTH = 100;
+    private static final Pattern VALID_NAME = Pattern.compile("^[-_\\p{L}\\p{N}]{1,32}$");
+
+    private final JDACommandManager manager;
+    private final Map<Class<?>, OptionType> optionTypes = new HashMap<>();
+    private final Map<Long, Map<String, Map<String, Object>>> synced = new ConcurrentHashMap<>();
+    private Map<String, SlashRootCommand> compiled = null;
+
+    JDASlashCommands(JDACommandManager manager) {
+        this.manager = manager;
+
+        registerOptionType(short.class, OptionType.INTEGER);
+        registerOptionType(Short.class, OptionType.INTEGER);
+        registerOptionType(int.class, OptionType.INTEGER);
+        registerOptionType(Integer.class, OptionType.INTEGER);
+        registerOptionType(long.class, OptionType.INTEGER);
+        registerOptionType(Long.class, OptionType.INTEGER);
+        registerOptionType(float.class, OptionType.NUMBER);
+        registerOptionType(Float.class, OptionType.NUMBER);
+        registerOptionType(double.class, OptionType.NUMBER);
+        registerOptionType(Double.class, OptionType.NUMBER);
+        registerOptionType(Number.class, OptionType.NUMBER);
+        // Discord numbers are limited to 53 bits, big numbers need to stay strings
+        registerOptionType(BigInteger.class, OptionType.STRING);
+        registerOptionType(BigDecimal.class, OptionType.STRING);
+        registerOptionType(boolean.class, OptionType.BOOLEAN);
+        registerOptionType(Boolean.class, OptionType.BOOLEAN);
+        registerOptionType(User.class, OptionType.USER);
+        registerOptionType(Role.class, OptionType.ROLE);
+        registerOptionType(MessageChannel.class, OptionType.CHANNEL);
+    }
+
+    /**
+     * Maps parameters of the given type to the given Discord option type. Parameters of unmapped types are sent as strings.
+     * <p>
+     * The value Discord sends for the option is passed as the input to the context resolver of the parameter, so the
+     * resolver must be able to parse it. Users, roles and channels are passed in their mention format.
+     */
+    public void registerOptionType(Class<?> clazz, OptionType type) {
+        optionTypes.put(clazz, type);
+        invalidate();
+    }
+
+    /**
+     * Marks the compiled commands as outdated, they will be recompiled on next use.
+     */
+    synchronized void invalidate() {
+        this.compiled = null;
+    }
+
+    /**
+     * @return The Discord command data for every registered root command which could be represented as a slash command.
+     */
+    public List<SlashCommandData> getCommandData() {
+        List<SlashCommandData> data = new ArrayList<>();
+        for (SlashRootCommand command : getCompiled().values()) {
+            data.add(command.data);
+        }
+        return data;
+    }
+
+    /**
+     * Syncs the slash commands to Discord as global commands, if they have changed.
+     */
+    public void sync() {
+        sync(GLOBAL_SCOPE, manager.getJDA().retrieveCommands(), manager.getJDA()::updateCommands);
+    }
+
+    /**
+     * Syncs the slash commands to Discord as commands of the given guild, if they have changed.
+     * Guild commands are updated instantly by Discord, which makes them useful while developing.
+     *
+     * @param guild The guild to register the commands in.
+     */
+    public void sync(Guild guild) {
+        sync(guild.getIdLong(), guild.retrieveCommands(), guild::updateCommands);
+    }
+
+    private void sync(long scope, RestAction<List<Command>> retrieve, Supplier<CommandListUpdateAction> update) {
+        List<SlashCommandData> data = getCommandData();
+        Map<String, Map<String, Object>> snapshot = snapshot(data);
+        Map<String, Map<String, Object>> known = this.synced.get(scope);
+        if (known != null) {
+            if (!known.equals(snapshot)) {
+                push(scope, update, data, snapshot);
+            }
+            return;
+        }
+
+        // Nothing synced by us yet, compare against what Discord currently has, so restarts do not re-register.
+        retrieve.queue(existing -> {
+            List<CommandData> remote = new ArrayList<>(existing.size());
+            for (Command command : existing) {
+                remote.add(CommandData.fromCommand(command));
+            }
+            if (snapshot(remote).equals(snapshot)) {
+                this.synced.put(scope, snapshot);
+            } else {
+                push(scope, update, data, snapshot);
+            }
+        }, t -> push(scope, update, data, snapshot));
+    }
+
+    private void push(long scope, Supplier<CommandListUpdateAction> update, List<SlashCommandData> data, Map<String, Map<String, Object>> snapshot) {
+        update.get().addCommands(data).queue(
+                commands -> this.synced.put(scope, snapshot),
+                t -> manager.log(LogLevel.ERROR, "Could not sync slash commands", t)
+        );
+    }
+
+    private static Map<String, Map<String, Object>> snapshot(List<? extends CommandData> data) {
+        Map<String, Map<String, Object>> snapshot = new HashMap<>();
+        for (CommandData command : data) {
+            snapshot.put(command.getType() + ":" + command.getName(), command.toData().toMap());
+        }
+        return snapshot;
+    }
+
+    void dispatch(SlashCommandInteractionEvent event) {
+        SlashRootCommand root = getCompiled().get(event.getName());
+        if (root == null) {
+            return;
+        }
+        SlashSubCommand sub = root.subCommands.get(getPath(event.getSubcommandGroup(), event.getSubcommandName()));
+        if (sub == null) {
+            return;
+        }
+
+        String[] args = sub.getArguments(event::getOption, sub.options.length);
+        RegisteredCommand cmd = sub.command;
+        JDASlashCommandEvent issuer = new JDASlashCommandEvent(manager, event);
+        // Acknowledge right away, commands may reply late or not at all. Replies then go through the interaction hook,
+        // the first one replacing the loading state.
+        event.deferReply().queue();
+        cmd.scope.execute(issuer, new CommandRouter.CommandRouteResult(cmd, args, sub.subcommand, root.name));
+    }
+
+    void complete(CommandAutoCompleteInteractionEvent event) {
+        SlashRootCommand root = getCompiled().get(event.getName());
+        if (root == null) {
+            return;
+        }
+        SlashSubCommand sub = root.subCommands.get(getPath(event.getSubcommandGroup(), event.getSubcommandName()));
+        if (sub == null) {
+            return;
+        }
+        AutoCompleteQuery focused = event.getFocusedOption();
+        int index = sub.indexOf(focused.getName());
+        if (index == -1) {
+            return;
+        }
+
+        String[] args = sub.getArguments(event::getOption, index);
+        String[] completeArgs = new String[args.length + 1];
+        System.arraycopy(args, 0, completeArgs, 0, args.length);
+        completeArgs[args.length] = focused.getValue();
+
+        RegisteredCommand<?> cmd = sub.command;
+        JDASlashCommandEvent issuer = new JDASlashCommandEvent(manager, event);
+        List<String> completions = cmd.scope.tabCompleteCommand(issuer, cmd, root.name, completeArgs, false);
+
+        List<Command.Choice> choices = new ArrayList<>(Math.min(completions.size(), MAX_CHOICES));
+        for (String completion : completions) {
+            if (choices.size() >= MAX_CHOICES) {
+                break;
+            }
+            Command.Choice choice = toChoice(focused.getType(), completion);
+            if (choice != null) {
+                choices.add(choice);
+            }
+        }
+        event.replyChoices(choices).queue();
+    }
+
+    private static Command.Choice toChoice(OptionType type, String value) {
+        if (value == null || value.isEmpty() || value.length() > MAX_DESCRIPTION_LENGTH) {
+            return null;
+        }
+        try {
+            switch (type) {
+                case INTEGER:
+                    return new Command.Choice(value, Long.parseLong(value));
+                case NUMBER:
+                    return new Command.Choice(value, Double.parseDouble(value));
+                default:
+                    return new Command.Choice(value, value);
+            }
+        } catch (NumberFormatException ignored) {
+            return null;
+        }
+    }
+
+    private static String getPath(String group, String subcommand) {
+        if (subcommand == null) {
+            return "";
+        }
+        return group == null ? subcommand : group + " " + subcommand;
+    }
+
+    private synchronized Map<String, SlashRootCommand> getCompiled() {
+        if (this.compiled == null) {
+            Map<String, SlashRootCommand> compiled = new LinkedHashMap<>();
+            for (RootCommand rootCommand : manager.getRegisteredRootCommands()) {
+                SlashRootCommand command = compile(rootCommand);
+                if (command != null) {
+                    compiled.put(command.name, command);
+                }
+            }
+            this.compiled = compiled;
+        }
+        return this.compiled;
+    }
+
+    private SlashRootCommand compile(RootCommand rootCommand) {
+        String name = rootCommand.getCommandName();
+        if (!VALID_NAME.matcher(name).matches()) {
+            manager.log(LogLevel.INFO, "Command " + name + " can not be registered as a slash command, invalid name");
+            return null;
+        }
+
+        // Discord does not support overloads, so pick the most complete command for each path
+        Map<String, RegisteredCommand> commands = new LinkedHashMap<>();
+        for (Map.Entry<String, RegisteredCommand> entry : rootCommand.getSubCommands().entries()) {
+            String key = entry.getKey();
+            RegisteredCommand cmd = entry.getValue();
+            if (BaseCommand.CATCHUNKNOWN.equals(key)) {
+                continue;
+            }
+            String path;
+            if (BaseCommand.DEFAULT.equals(key)) {
+                path = "";
+            } else if (key.equals(cmd.prefSubCommand)) {
+                // Only use the preferred name, aliases would count against the subcommand limit
+                path = key;
+            } else {
+                continue;
+            }
+            RegisteredCommand current = commands.get(path);
+            if (current == null || current.consumeInputResolvers < cmd.consumeInputResolvers) {
+                commands.put(path, cmd);
+            }
+        }
+
+        RegisteredCommand defaultCommand = commands.remove("");
+        SlashCommandData data = Commands.slash(name, describe(rootCommand.getDescription(), name));
+        SlashRootCommand root = new SlashRootCommand(name, data);
+
+        if (commands.isEmpty()) {
+            if (defaultCommand == null) {
+                return null;
+            }
+            SlashSubCommand sub = new SlashSubCommand(defaultCommand, null);
+            data.addOptions(sub.compileOptions());
+            root.subCommands.put("", sub);
+            return root;
+        }
+
+        if (defaultCommand != null) {
+            manager.log(LogLevel.INFO, "Default of " + name + " can not be used as a slash command, because it has subcommands");
+        }
+
+        Map<String, SubcommandGroupData> groups = new LinkedHashMap<>();
+        for (Map.Entry<String, RegisteredCommand> entry : commands.entrySet()) {
+            String path = entry.getKey();
+            String[] parts = ACFPatterns.SPACE.split(path);
+            boolean valid = parts.length <= 2;
+            for (String part : parts) {
+                valid &= VALID_NAME.matcher(part).matches();
+            }
+            if (!valid || (parts.length == 2 && root.subCommands.containsKey(parts[0]))
+                    || (parts.length == 1 && groups.containsKey(parts[0]))) {
+                manager.log(LogLevel.INFO, "Subcommand " + name + " " + path + " can not be represented as a slash command");
+                continue;
+            }
+
+            RegisteredCommand cmd = entry.getValue();
+            SlashSubCommand sub = new SlashSubCommand(cmd, path);
+            SubcommandData subcommandData = new SubcommandData(parts[parts.length - 1], describe(cmd.getHelpText(), path))
+                    .addOptions(sub.compileOptions());
+            if (parts.length == 1) {
+                data.addSubcommands(subcommandData);
+            } else {
+                groups.computeIfAbsent(parts[0], group -> new SubcommandGroupData(group, group))
+                        .addSubcommands(subcommandData);
+            }
+            root.subCommands.put(path, sub);
+        }
+        data.addSubcommandGroups(groups.values());
+        return root;
+    }
+
+    private static String describe(String description, String fallback) {
+        if (description == null || description.isEmpty()) {
+            description = fallback.isEmpty() ? "-" : fallback;
+        }
+        return ACFUtil.limit(description, MAX_DESCRIPTION_LENGTH);
+    }
+
+    private OptionType getOptionType(CommandParameter<?> param) {
+        if (param.consumesRest || param.getFlags().containsKey("suffixes")) {
+            return OptionType.STRING;
+        }
+        Class<?> type = param.getType();
+        do {
+            OptionType optionType = optionTypes.get(type);
+            if (optionType != null) {
+                return optionType;
+            }
+        } while ((type = type.getSuperclass()) != null);
+        return OptionType.STRING;
+    }
+
+    private static String toArgument(OptionMapping mapping) {
+        switch (mapping.getType()) {
+            case USER:
+                return "<@" + mapping.getAsString() + ">";
+            case ROLE:
+                return "<@&" + mapping.getAsString() + ">";
+            case CHANNEL:
+                return "<#" + mapping.getAsString() + ">";
+            default:
+                return mapping.getAsString();
+        }
+    }
+
+    private static class SlashRootCommand {
+        private final String name;
+        private final SlashCommandData data;
+        private final Map<String, SlashSubCommand> subCommands = new HashMap<>();
+
+        SlashRootCommand(String name, SlashCommandData data) {
+            this.name = name;
+            this.data = data;
+        }
+    }
+
+    private class SlashSubCommand {
+        private final RegisteredCommand<?> command;
+        private final String subcommand;
+        private final CommandParameter<?>[] options;
+        private final String[] optionNames;
+
+        SlashSubCommand(RegisteredCommand<?> command, String subcommand) {
+            this.command = command;
+            this.subcommand = subcommand;
+
+            List<CommandParameter<?>> options = new ArrayList<>();
+            for (CommandParameter<?> param : command.parameters) {
+                if (param.canConsumeInput() && options.size() < MAX_OPTIONS) {
+                    options.add(param);
+                }
+            }
+            this.options = options.toArray(new CommandParameter<?>[0]);
+            this.optionNames = new String[this.options.length];
+            for (int i = 0; i < this.options.length; i++) {
+                this.optionNames[i] = this.options[i].getName().toLowerCase(Locale.ENGLISH);
+            }
+        }
+
+        int indexOf(String optionName) {
+            return ACFUtil.indexOf(optionName, optionNames);
+        }
+
+        /**
+         * Builds the ACF input for the first {@code count} options, in the order the command declares its parameters.
+         */
+        String[] getArguments(Function<String, OptionMapping> options, int count) {
+            List<String> args = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                CommandParameter<?> param = this.options[i];
+                OptionMapping mapping = options.apply(optionNames[i]);
+                if (mapping == null) {
+                    // Positional input can not skip a parameter, so only continue if the gap can be filled
+                    if (param.getDefaultValue() == null) {
+                        break;
+                    }
+                    args.add(param.getDefaultValue());
+                } else if (param.consumesRest) {
+                    for (String arg : ACFPatterns.SPACE.split(mapping.getAsString())) {
+                        args.add(arg);
+                    }
+                } else {
+                    args.add(toArgument(mapping));
+                }
+            }
+            return args.toArray(new String[0]);
+        }
+
+        List<OptionData> compileOptions() {
+            List<OptionData> compiled = new ArrayList<>(options.length);
+            String[] completions = ACFPatterns.SPACE.split(command.complete);
+            boolean optionalFound = false;
+            for (int i = 0; i < options.length; i++) {
+                CommandParameter<?> param = options[i];
+                OptionType type = getOptionType(param);
+                // Discord requires all required options to come first, ACF validates the rest on execution
+                optionalFound |= !param.requiresInput();
+                OptionData option = new OptionData(type, optionNames[i], describe(param.getDescription(), param.getName()), !optionalFound);
+
+                List<String> choices = getChoices(param);
+                if (type == OptionType.STRING && choices != null) {
+                    for (String choice : choices) {
+                        option.addChoice(choice, choice);
+                    }
+                } else if (type == OptionType.STRING || type == OptionType.INTEGER || type == OptionType.NUMBER) {
+                    String completion = i < completions.length ? completions[i] : null;
+                    option.setAutoComplete(param.getType().isEnum()
+                            || (completion != null && !completion.isEmpty() && !"@nothing".equals(completion) && !"@empty".equals(completion)));
+                    applyLimits(option, param);
+                }
+                compiled.add(option);
+            }
+            return compiled;
+        }
+
+        private List<String> getChoices(CommandParameter<?> param) {
+            List<String> choices = new ArrayList<>();
+            if (param.getValues() != null) {
+                for (String value : param.getValues()) {
+                    if (value.startsWith("@") || "*".equals(value)) {
+                        return null;
+                    }
+                    choices.add(value);
+                }
+            } else if (param.getType().isEnum()) {
+                //noinspection unchecked
+                choices.addAll(ACFUtil.enumNames((Class<? extends Enum<?>>) param.getType()));
+            } else {
+                return null;
+            }
+            return choices.isEmpty() || choices.size() > MAX_CHOICES ? null : choices;
+        }
+
+        private void applyLimits(OptionData option, CommandParameter<?> param) {
+            Map<String, String> flags = param.getFlags();
+            try {
+                if (option.getType() == OptionType.STRING) {
+                    Integer minLen = ACFUtil.parseInt(flags.get("minlen"));
+                    Integer maxLen = ACFUtil.parseInt(flags.get("maxlen"));
+                    if (minLen != null) {
+                        option.setMinLength(minLen);
+                    }
+                    if (maxLen != null) {
+                        option.setMaxLength(maxLen);
+                    }
+                    return;
+                }
+                Double min = ACFUtil.parseDouble(flags.get("min"));
+                Double max = ACFUtil.parseDouble(flags.get("max"));
+                if (option.getType() == OptionType.INTEGER) {
+                    if (min != null) {
+                        option.setMinValue((long) Math.ceil(min));
+                    }
+                    if (max != null) {
+                        option.setMaxValue((long) Math.floor(max));
+                    }
+                } else {
+                    if (min != null) {
+                        option.setMinValue(min);
+                    }
+                    if (max != null) {
+                        option.setMaxValue(max);
+                    }
+                }
+            } catch (IllegalArgumentException e) {
+                // Out of the range Discord supports, ACF will still validate it on execution
+            }
+        }
+    }
+}
@@ -29,10 +29,20 @@ import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 
 class PaperAsyncTabCompleteHandler implements Listener {
     private final PaperCommandManager manager;
+    /**
+     * The latest completion request of each issuer that is still being computed
+     */
+    private final Map<UUID, Completion> inFlight = new ConcurrentHashMap<>();
 
     PaperAsyncTabCompleteHandler(PaperCommandManager manager) {
         this.manager = manager;
@@ -65,22 +75,72 @@ class PaperAsyncTabCompleteHandler implements Listener {
     }
 
     private List<String> getCompletions(String buffer, List<String> existingCompletions, CommandSender sender, boolean async) {
-        String[] args = ACFPatterns.SPACE.split(buffer, -1);
+        String[] args = ACFTokenizer.split(buffer, ' ', -1);
 
         String commandLabel = stripLeadingSlash(args[0]);
         args = args.length > 1 ? Arrays.copyOfRange(args, 1, args.length) : new String[]{""};
 
         RootCommand rootCommand = this.manager.getRootCommand(commandLabel);
-        if (rootCommand == null) {
+        if (rootCommand == null || this.manager.usesBrigadierSuggestions()) {
+            // Left to the suggestion providers of the brigadier nodes
             return null;
         }
 
         BukkitCommandIssuer issuer = this.manager.getCommandIssuer(sender);
-        List<String> completions = rootCommand.getTabCompletions(issuer, commandLabel, args, false, async);
+        Completion completion = complete(issuer, rootCommand, commandLabel, args, buffer, async);
+        if (completion.superseded) {
+            // The client already sent a newer buffer and ignores answers to older ones
+            return Collections.emptyList();
+        }
+        List<String> completions = completion.result.join();
 
         return ACFUtil.preformOnImmutable(existingCompletions, (list) -> list.addAll(completions));
     }
 
+    /**
+     * Computes the completions of a buffer, unless the same issuer is already waiting on the completions of that
+     * exact buffer, in which case that computation is shared. A request for another buffer marks the older one as
+     * superseded, so its result is dropped instead of sent.
+     */
+    private Completion complete(BukkitCommandIssuer issuer, RootCommand rootCommand, String commandLabel, String[] args, String buffer, boolean async) {
+        UUID id = issuer.getUniqueId();
+        Completion request = new Completion(buffer);
+        Completion current = inFlight.merge(id, request, (older, newer) -> {
+            if (older.buffer.equals(newer.buffer)) {
+                return older;
+            }
+            older.superseded = true;
+            return newer;
+        });
+        if (current != request) {
+            try {
+                current.result.join();
+            } catch (CompletionException e) {
+                ACFUtil.sneaky(e.getCause());
+            }
+            return current;
+        }
+        try {
+            request.result.complete(rootCommand.completeInput(issuer, commandLabel, args, async));
+        } catch (Throwable e) {
+            request.result.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(id, request);
+        }
+        return request;
+    }
+
+    private static final class Completion {
+        private final String buffer;
+        private final CompletableFuture<List<String>> result = new CompletableFuture<>();
+        private volatile boolean superseded;
+
+        private Completion(String buffer) {
+            this.buffer = buffer;
+        }
+    }
+
     private static String stripLeadingSlash(String arg) {
         return arg.startsWith("/") ? arg.substring(1) : arg;
     }
@@ -25,11 +25,18 @@ package co.aikar.commands;
 
 import com.destroystokyo.paper.brigadier.BukkitBrigadierCommandSource;
 import com.destroystokyo.paper.event.brigadier.CommandRegisteredEvent;
+import com.mojang.brigadier.tree.LiteralCommandNode;
 import org.bukkit.Bukkit;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
+import org.bukkit.event.server.PluginDisableEvent;
 import org.bukkit.plugin.Plugin;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 /**
  * Handles registering of commands into brigadier
  *
@@ -40,15 +47,32 @@ import org.bukkit.plugin.Plugin;
 @UnstableAPI
 public class PaperBrigadierManager implements Listener {
 
+    private final Plugin plugin;
     private final PaperCommandManager manager;
+    private final ExecutorService suggestionExecutor;
     private final ACFBrigadierManager<BukkitBrigadierCommandSource> brigadierManager;
+    /**
+     * The nodes built per root command, reused every time the server rebuilds its command tree.
+     */
+    private final Map<RootCommand, LiteralCommandNode<BukkitBrigadierCommandSource>> trees = new HashMap<>();
 
     public PaperBrigadierManager(Plugin plugin, PaperCommandManager manager) {
         manager.verifyUnstableAPI("brigadier");
         manager.log(LogLevel.INFO, "Enabled Brigadier Support!");
 
+        this.plugin = plugin;
         this.manager = manager;
         this.brigadierManager = new ACFBrigadierManager<>(manager);
+        this.suggestionExecutor = Executors.newFixedThreadPool(2, task -> {
+            Thread thread = new Thread(task, "ACF Suggestions - " + plugin.getName());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.brigadierManager.useNativeSuggestions(
+                source -> manager.getCommandIssuer(source.getBukkitSender()),
+                suggestionExecutor,
+                task -> Bukkit.getScheduler().runTask(plugin, task)
+        );
 
         Bukkit.getPluginManager().registerEvents(this, plugin);
     }
@@ -57,17 +81,34 @@ public class PaperBrigadierManager implements Listener {
     public void onCommandRegister(CommandRegisteredEvent<BukkitBrigadierCommandSource> event) {
         RootCommand acfCommand = manager.getRootCommand(event.getCommandLabel());
         if (acfCommand != null) {
-            event.setLiteral(brigadierManager.register(
-                    acfCommand,
-                    event.getLiteral(),
+            LiteralCommandNode<BukkitBrigadierCommandSource> node = trees.computeIfAbsent(acfCommand, command -> brigadierManager.register(
+                    command,
+                    command.getCommandName(),
                     event.getBrigadierCommand(),
                     event.getBrigadierCommand(),
                     this::checkPermRoot,
                     this::checkPermSub
             ));
+            String literal = event.getLiteral().getLiteral();
+            // Namespaced labels share the nodes through a redirect
+            event.setLiteral(literal.equals(node.getLiteral()) ? node : brigadierManager.redirect(literal, node));
         }
     }
 
+    @EventHandler
+    public void onPluginDisable(PluginDisableEvent event) {
+        if (event.getPlugin() == plugin) {
+            suggestionExecutor.shutdown();
+        }
+    }
+
+    /**
+     * Discards the nodes built so far, to be called whenever the commands of a root command change.
+     */
+    void invalidate() {
+        trees.clear();
+    }
+
     private boolean checkPermSub(RegisteredCommand registeredCommand, BukkitBrigadierCommandSource sender) {
         return registeredCommand.hasPermission(manager.getCommandIssuer(sender.getBukkitSender()));
     }
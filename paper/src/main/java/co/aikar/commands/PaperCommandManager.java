@@ -23,6 +23,8 @@
 
 package co.aikar.commands;
 
+import co.aikar.locales.MessageKeyProvider;
+import net.kyori.adventure.text.Component;
 import org.bukkit.Bukkit;
 import org.bukkit.plugin.Plugin;
 
@@ -30,6 +32,8 @@ import org.bukkit.plugin.Plugin;
 public class PaperCommandManager extends BukkitCommandManager {
 
     private boolean brigadierAvailable;
+    private PaperBrigadierManager brigadierManager;
+    protected final PaperComponentRenderer componentRenderer = new PaperComponentRenderer(this);
 
     public PaperCommandManager(Plugin plugin) {
         super(plugin);
@@ -52,10 +56,39 @@ public class PaperCommandManager extends BukkitCommandManager {
         super.enableUnstableAPI(api);
 
         if ("brigadier".equals(api) && brigadierAvailable) {
-            new PaperBrigadierManager(plugin, this);
+            brigadierManager = new PaperBrigadierManager(plugin, this);
         }
     }
 
+    /**
+     * @return If argument suggestions are answered by the brigadier nodes of the commands.
+     */
+    boolean usesBrigadierSuggestions() {
+        return brigadierManager != null;
+    }
+
+    @Override
+    void onCommandsInvalidated() {
+        super.onCommandsInvalidated();
+        if (brigadierManager != null) {
+            brigadierManager.invalidate();
+        }
+    }
+
+    @Override
+    boolean sendComponentMessage(CommandIssuer issuer, MessageType type, MessageKeyProvider key, String... replacements) {
+        // Subclasses may be capturing messages through sendMessageInternal
+        if (issuer.getClass() != BukkitCommandIssuer.class) {
+            return false;
+        }
+        Component message = componentRenderer.render(issuer, type, key, replacements);
+        if (message == null) {
+            return false;
+        }
+        ((BukkitCommandIssuer) issuer).getIssuer().sendMessage(message);
+        return true;
+    }
+
     @Override
     public synchronized CommandContexts<BukkitCommandExecutionContext> getCommandContexts() {
         if (this.contexts == null) {
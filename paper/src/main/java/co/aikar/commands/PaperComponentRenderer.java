@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2016-2017 Daniel Ennis (Aikar) - MIT License
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining
+ *  a copy of this software and associated documentation files (the
+ *  "Software"), to deal in the Software without restriction, including
+ *  without limitation the rights to use, copy, modify, merge, publish,
+ *  distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to
+ *  the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be
+ *  included in all copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ *  EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ *  MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ *  NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ *  LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ *  OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ *  WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package co.aikar.commands;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
+import net.kyori.adventure.text.serializer.legacy.LegacyFormat;
+import org.bukkit.ChatColor;
+
+import java.util.List;
+
+public class PaperComponentRenderer extends ComponentMessageRenderer<Component, ChatColor> {
+
+    public PaperComponentRenderer(PaperCommandManager manager) {
+        super(manager, BukkitMessageFormatter.class);
+    }
+
+    @Override
+    protected Component text(String text, ChatColor color) {
+        TextComponent component = Component.text(text);
+        LegacyFormat format = color != null ? LegacyComponentSerializer.parseChar(color.getChar()) : null;
+        if (format != null) {
+            if (format.color() != null) {
+                component = component.color(format.color());
+            } else if (format.decoration() != null) {
+                component = component.decoration(format.decoration(), true);
+            }
+        }
+        return component;
+    }
+
+    @Override
+    protected Component join(List<Component> parts) {
+        return Component.text().append(parts).build();
+    }
+}
@@ -87,6 +87,12 @@ public class SpongeCommandManager extends CommandManager<
         return CommandSource.class.isAssignableFrom(type);
     }
 
+    @Override
+    public boolean isRateLimitExempt(CommandIssuer issuer) {
+        // Anything but a player is the server itself, like the console or command blocks
+        return !issuer.isPlayer();
+    }
+
     @Override
     public synchronized CommandContexts<SpongeCommandExecutionContext> getCommandContexts() {
         if (this.contexts == null) {
@@ -192,7 +198,7 @@ public class SpongeCommandManager extends CommandManager<
     }
 
     @Override
-    CommandOperationContext createCommandOperationContext(BaseCommand command, CommandIssuer issuer, String commandLabel, String[] args, boolean isAsync) {
+    CommandOperationContext createCommandOperationContext(BaseCommand command, CommandIssuer issuer, String commandLabel, ArgumentCursor args, boolean isAsync) {
         return new SpongeCommandOperationContext(
                 this,
                 issuer,
@@ -60,12 +60,16 @@ public class SpongeRootCommand implements CommandCallable, RootCommand {
 
     @Override
     public CommandResult process(@NotNull CommandSource source, @NotNull String arguments) throws CommandException {
-        String[] args = arguments.isEmpty() ? new String[0] : arguments.split(" ");
+        String[] args = manager.usingQuotedArguments() ? ACFTokenizer.tokenize(arguments)
+                : arguments.isEmpty() ? new String[0] : arguments.split(" ");
         return this.executeSponge(manager.getCommandIssuer(source), this.name, args);
     }
 
     @Override
     public List<String> getSuggestions(@NotNull CommandSource source, @NotNull String arguments, @Nullable Location<World> location) throws CommandException {
+        if (manager.usingQuotedArguments()) {
+            return completeQuotedInput(manager.getCommandIssuer(source), this.name, arguments, false);
+        }
         String[] args = arguments.isEmpty() ? new String[]{""} : arguments.split(" ");
         return getTabCompletions(manager.getCommandIssuer(source), this.name, args);
     }
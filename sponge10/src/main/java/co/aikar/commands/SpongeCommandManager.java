@@ -55,6 +55,7 @@ public class SpongeCommandManager extends CommandManager<
     protected SpongeCommandContexts contexts;
     protected SpongeCommandCompletions completions;
     protected SpongeLocales locales;
+    protected boolean useParameterizedCommands = false;
 
     public SpongeCommandManager(PluginContainer plugin) {
         this.plugin = plugin;
@@ -77,11 +78,35 @@ public class SpongeCommandManager extends CommandManager<
         return plugin;
     }
 
+    public boolean usingParameterizedCommands() {
+        return useParameterizedCommands;
+    }
+
+    /**
+     * Registers commands as native {@link Command.Parameterized} trees instead of raw commands, so Sponge and the
+     * client parse subcommands, numbers and booleans themselves. Only applies to commands registered afterwards,
+     * and every command of a root command should be registered before it is first registered with Sponge.
+     *
+     * @param setting Whether to register parameterized commands
+     * @return The previous setting
+     */
+    public boolean useParameterizedCommands(boolean setting) {
+        boolean old = useParameterizedCommands;
+        useParameterizedCommands = setting;
+        return old;
+    }
+
     @Override
     public boolean isCommandIssuer(Class<?> type) {
         return CommandCause.class.isAssignableFrom(type);
     }
 
+    @Override
+    public boolean isRateLimitExempt(CommandIssuer issuer) {
+        // Anything but a player is the server itself, like the console or command blocks
+        return !issuer.isPlayer();
+    }
+
     @Override
     public synchronized CommandContexts<SpongeCommandExecutionContext> getCommandContexts() {
         if (this.contexts == null) {
@@ -120,8 +145,13 @@ public class SpongeCommandManager extends CommandManager<
             String commandName = entry.getKey().toLowerCase(Locale.ENGLISH);
             SpongeRootCommand spongeCommand = (SpongeRootCommand) entry.getValue();
             if (!spongeCommand.isRegistered) {
-                Sponge.server().commandManager().registrar(Command.Raw.class).get()
-                        .register(plugin, spongeCommand, commandName);
+                if (useParameterizedCommands) {
+                    Sponge.server().commandManager().registrar(Command.Parameterized.class).get()
+                            .register(plugin, SpongeParameterizedCommand.compile(this, spongeCommand), commandName);
+                } else {
+                    Sponge.server().commandManager().registrar(Command.Raw.class).get()
+                            .register(plugin, spongeCommand, commandName);
+                }
             }
             spongeCommand.isRegistered = true;
             registeredCommands.put(commandName, spongeCommand);
@@ -189,7 +219,7 @@ public class SpongeCommandManager extends CommandManager<
     }
 
     @Override
-    CommandOperationContext createCommandOperationContext(BaseCommand command, CommandIssuer issuer, String commandLabel, String[] args, boolean isAsync) {
+    CommandOperationContext createCommandOperationContext(BaseCommand command, CommandIssuer issuer, String commandLabel, ArgumentCursor args, boolean isAsync) {
         return new SpongeCommandOperationContext(
                 this,
                 issuer,
@@ -4,7 +4,7 @@ import org.spongepowered.api.command.CommandResult;
 
 public class SpongeCommandOperationContext extends CommandOperationContext {
     private CommandResult result = CommandResult.success();
-    SpongeCommandOperationContext(CommandManager manager, CommandIssuer issuer, BaseCommand command, String commandLabel, String[] args, boolean isAsync) {
+    SpongeCommandOperationContext(CommandManager manager, CommandIssuer issuer, BaseCommand command, String commandLabel, ArgumentCursor args, boolean isAsync) {
         super(manager, issuer, command, commandLabel, args, isAsync);
     }
 
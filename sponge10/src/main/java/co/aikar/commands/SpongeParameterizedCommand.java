@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2016-2017 Daniel Ennis (Aikar) - MIT License
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining
+ *  a copy of this software and associated documentation files (the
+ *  "Software"), to deal in the Software without restriction, including
+ *  without limitation the rights to use, copy, modify, merge, publish,
+ *  distribute, sublicense, and/or sell copies of the Software, and to
+ *  permit persons to whom the Software is furnished to do so, subject to
+ *  the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be
+ *  included in all copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ *  EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ *  MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ *  NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ *  LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ *  OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ *  WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package co.aikar.commands;
+
+import co.aikar.commands.apachecommonslang.ApacheCommonsLangUtil;
+import org.spongepowered.api.command.Command;
+import org.spongepowered.api.command.CommandCompletion;
+import org.spongepowered.api.command.CommandExecutor;
+import org.spongepowered.api.command.parameter.CommandContext;
+import org.spongepowered.api.command.parameter.Parameter;
+import org.spongepowered.api.command.parameter.managed.ValueCompleter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static net.kyori.adventure.text.Component.text;
+
+/**
+ * Compiles a root command into Sponge's native {@link Command.Parameterized} tree, so subcommands and parameter
+ * types are known to the client and parsed by Sponge, in the same way {@code ACFBrigadierManager} does for Brigadier.
+ * <p>
+ * Numbers and booleans use Sponge's own parsers, every other parameter is a string completed by ACF. Subcommands with
+ * several overloads, and forwarding commands, take the rest of the input as is and let ACF pick what to run.
+ * Once parsed, the values are handed back to ACF as arguments, so its resolvers and conditions still apply.
+ * <p>
+ * The tree is compiled when the root command is registered with Sponge, so commands added to it afterwards are not part of it.
+ *
+ * @see SpongeCommandManager#useParameterizedCommands(boolean)
+ */
+final class SpongeParameterizedCommand {
+
+    private final SpongeCommandManager manager;
+    private final SpongeRootCommand rootCommand;
+    /**
+     * Values holding the rest of the input, which are split back into arguments.
+     */
+    private final Set<Parameter.Value<?>> joinedValues = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private SpongeParameterizedCommand(SpongeCommandManager manager, SpongeRootCommand rootCommand) {
+        this.manager = manager;
+        this.rootCommand = rootCommand;
+    }
+
+    static Command.Parameterized compile(SpongeCommandManager manager, SpongeRootCommand rootCommand) {
+        return new SpongeParameterizedCommand(manager, rootCommand).compile();
+    }
+
+    private Command.Parameterized compile() {
+        Node root = new Node(Collections.emptyList());
+        if (rootCommand.getDefCommand() instanceof ForwardingCommand) {
+            root.raw = true;
+        } else {
+            RegisteredCommand defaultCommand = rootCommand.getDefaultRegisteredCommand();
+            if (defaultCommand != null) {
+                root.commands.add(defaultCommand);
+            }
+            for (Map.Entry<String, RegisteredCommand> subCommand : rootCommand.getSubCommands().entries()) {
+                String key = subCommand.getKey();
+                if (BaseCommand.isSpecialSubcommand(key) || (!key.equals("help") && subCommand.getValue().prefSubCommand.equals("help"))) {
+                    // don't register stuff like __catchunknown and don't help command aliases
+                    continue;
+                }
+                Node node = root;
+                for (String literal : ACFPatterns.SPACE.split(key)) {
+                    node = node.child(literal);
+                }
+                node.commands.add(subCommand.getValue());
+            }
+        }
+
+        Command.Builder builder = build(root);
+        builder.executionRequirements(cause -> rootCommand.hasAnyPermission(manager.getCommandIssuer(cause)));
+        String description = rootCommand.getDescription();
+        if (description != null) {
+            builder.shortDescription(text(description));
+        }
+        return builder.build();
+    }
+
+    private Command.Builder build(Node node) {
+        Command.Builder builder = Command.builder();
+        List<Parameter.Value<?>> values = new ArrayList<>();
+        if (node.raw || node.commands.size() > 1) {
+            Parameter.Value<String> arguments = Parameter.remainingJoinedStrings()
+                    .key("arguments")
+                    .optional()
+                    .completer(completer(node.path, values))
+                    .build();
+            joinedValues.add(arguments);
+            values.add(arguments);
+            builder.addParameter(arguments);
+        } else if (!node.commands.isEmpty()) {
+            for (CommandParameter param : node.commands.iterator().next().parameters) {
+                if (!param.canConsumeInput()) {
+                    continue;
+                }
+                Parameter.Value<?> value = toValue(param, node.path, values);
+                values.add(value);
+                builder.addParameter(value);
+            }
+        }
+        if (!node.commands.isEmpty()) {
+            builder.executionRequirements(cause -> {
+                CommandIssuer issuer = manager.getCommandIssuer(cause);
+                return node.commands.stream().anyMatch(command -> command.hasPermission(issuer));
+            });
+        }
+        builder.executor(executor(node.path, values));
+
+        for (Map.Entry<String, Node> child : node.children.entrySet()) {
+            builder.addChild(build(child.getValue()).build(), child.getKey());
+        }
+        return builder;
+    }
+
+    private Parameter.Value<?> toValue(CommandParameter param, List<String> path, List<Parameter.Value<?>> previous) {
+        Class<?> type = param.getType();
+        Parameter.Value.Builder<?> builder;
+        if (param.consumesRest) {
+            builder = Parameter.remainingJoinedStrings().completer(completer(path, previous));
+        } else if (type == int.class || type == Integer.class) {
+            builder = Parameter.integerNumber();
+        } else if (type == long.class || type == Long.class) {
+            builder = Parameter.longNumber();
+        } else if (type == double.class || type == Double.class || type == float.class || type == Float.class) {
+            builder = Parameter.doubleNumber();
+        } else if (type == boolean.class || type == Boolean.class) {
+            builder = Parameter.bool();
+        } else {
+            builder = Parameter.string().completer(completer(path, previous));
+        }
+        builder.key(param.getName());
+        if (param.canExecuteWithoutInput()) {
+            builder.optional();
+        }
+        Parameter.Value<?> value = builder.build();
+        if (param.consumesRest) {
+            joinedValues.add(value);
+        }
+        return value;
+    }
+
+    private CommandExecutor executor(List<String> path, List<Parameter.Value<?>> values) {
+        return context -> rootCommand.executeSponge(manager.getCommandIssuer(context.cause()),
+                rootCommand.getCommandName(), arguments(context, path, values).toArray(new String[0]));
+    }
+
+    private ValueCompleter completer(List<String> path, List<Parameter.Value<?>> previous) {
+        // Only the values parsed before this one are known while it is being completed
+        List<Parameter.Value<?>> parsed = new ArrayList<>(previous);
+        return (context, currentInput) -> {
+            List<String> args = arguments(context, path, parsed);
+            args.add(currentInput);
+            CommandIssuer issuer = manager.getCommandIssuer(context.cause());
+            return rootCommand.getTabCompletions(issuer, rootCommand.getCommandName(), args.toArray(new String[0])).stream()
+                    .filter(completion -> ApacheCommonsLangUtil.startsWithIgnoreCase(completion, currentInput))
+                    .map(CommandCompletion::of)
+                    .collect(Collectors.toList());
+        };
+    }
+
+    /**
+     * Turns the parsed values back into the arguments ACF would have received.
+     */
+    private List<String> arguments(CommandContext context, List<String> path, List<Parameter.Value<?>> values) {
+        List<String> args = new ArrayList<>(path);
+        for (Parameter.Value<?> value : values) {
+            Optional<?> parsed = context.one(value);
+            if (!parsed.isPresent()) {
+                // Optional values are parsed in order, so none follow a missing one
+                break;
+            }
+            if (joinedValues.contains(value)) {
+                Collections.addAll(args, SpongeRootCommand.splitArguments((String) parsed.get()));
+            } else {
+                args.add(String.valueOf(parsed.get()));
+            }
+        }
+        return args;
+    }
+
+    private static final class Node {
+        private final List<String> path;
+        private final Map<String, Node> children = new LinkedHashMap<>();
+        private final Set<RegisteredCommand> commands = new LinkedHashSet<>();
+        private boolean raw;
+
+        private Node(List<String> path) {
+            this.path = path;
+        }
+
+        private Node child(String literal) {
+            return children.computeIfAbsent(literal, key -> {
+                List<String> path = new ArrayList<>(this.path);
+                path.add(key);
+                return new Node(path);
+            });
+        }
+    }
+}
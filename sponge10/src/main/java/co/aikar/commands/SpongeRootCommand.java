@@ -63,7 +63,7 @@ public class SpongeRootCommand implements Command.Raw, RootCommand {
         return name;
     }
 
-    private CommandResult executeSponge(CommandIssuer sender, String commandLabel, String[] args) {
+    CommandResult executeSponge(CommandIssuer sender, String commandLabel, String[] args) {
         BaseCommand cmd = execute(sender, commandLabel, args);
         SpongeCommandOperationContext lastContext = (SpongeCommandOperationContext) cmd.getLastCommandOperationContext();
         return lastContext != null ? lastContext.getResult() : CommandResult.success();
@@ -98,14 +98,17 @@ public class SpongeRootCommand implements Command.Raw, RootCommand {
 
     @Override
     public CommandResult process(CommandCause cause, ArgumentReader.Mutable arguments) throws CommandException {
-        String[] args = argToStrlist(arguments);
+        String[] args = manager.usingQuotedArguments() ? ACFTokenizer.tokenize(arguments.input()) : splitArguments(arguments.input());
         return this.executeSponge(manager.getCommandIssuer(cause), this.name, args);
     }
 
     @Override
     public List<CommandCompletion> complete(CommandCause cause, ArgumentReader.Mutable arguments) throws CommandException {
-        String[] args = argToStrlist(arguments);
-        return getTabCompletions(manager.getCommandIssuer(cause), this.name, args).stream().map(it -> new CommandCompletion() {
+        CommandIssuer issuer = manager.getCommandIssuer(cause);
+        List<String> completions = manager.usingQuotedArguments()
+                ? completeQuotedInput(issuer, this.name, arguments.input(), false)
+                : getTabCompletions(issuer, this.name, splitArguments(arguments.input()));
+        return completions.stream().map(it -> new CommandCompletion() {
             @Override
             public String completion() {
                 return it;
@@ -128,11 +131,8 @@ public class SpongeRootCommand implements Command.Raw, RootCommand {
             completions.addAll(child.getCommandsForCompletion(sender, args));
         });
 
-        return completions.stream()
-                .filter(it -> Arrays
-                        .stream(args)
-                        .noneMatch(it::equals))
-                .collect(Collectors.toList());
+        completions.removeAll(Arrays.asList(args));
+        return new ArrayList<>(completions);
     }
 
     @Override
@@ -157,9 +157,17 @@ public class SpongeRootCommand implements Command.Raw, RootCommand {
         return usage != null ? text(usage) : text("");
     }
 
-    private String[] argToStrlist(ArgumentReader.Mutable arguments) {
-        return Arrays.stream(arguments.input().split(" "))
-                .filter(string -> (!string.isEmpty()))
-                .toArray(String[]::new);
+    /**
+     * Splits input on spaces, ignoring repeated spaces.
+     */
+    static String[] splitArguments(String input) {
+        List<String> args = new ArrayList<>();
+        ACFTokenizer tokens = new ACFTokenizer(input, ' ');
+        while (tokens.next()) {
+            if (tokens.length() > 0) {
+                args.add(tokens.token());
+            }
+        }
+        return args.toArray(new String[0]);
     }
 }
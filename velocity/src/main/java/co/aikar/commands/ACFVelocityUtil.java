@@ -42,6 +42,10 @@ public class ACFVelocityUtil {
         return matches.get(0);
     }
 
+    static boolean isOnlinePlayer(ProxyServer server, String search) {
+        return !matchPlayer(server, ACFUtil.replace(search, ":confirm", "")).isEmpty();
+    }
+
     /*
      * Original code written by md_5
      *
@@ -45,6 +45,8 @@ public class VelocityCommandContexts extends CommandContexts<VelocityCommandExec
             OnlinePlayer onlinePlayer = getOnlinePlayer(server, c);
             return new co.aikar.commands.contexts.OnlinePlayer(onlinePlayer.getPlayer());
         });
+        registerArgumentPredicate(OnlinePlayer.class, lookup -> ACFVelocityUtil.isOnlinePlayer(server, lookup));
+        registerArgumentPredicate(co.aikar.commands.contexts.OnlinePlayer.class, lookup -> ACFVelocityUtil.isOnlinePlayer(server, lookup));
         registerIssuerAwareContext(CommandSource.class, VelocityCommandExecutionContext::getSender);
         registerIssuerAwareContext(Player.class, (c) -> {
             Player proxiedPlayer = c.getSender() instanceof Player ? (Player) c.getSender() : null;
@@ -25,8 +25,11 @@ package co.aikar.commands;
 
 import com.velocitypowered.api.command.CommandSource;
 import com.velocitypowered.api.proxy.Player;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -75,6 +78,18 @@ public class VelocityCommandIssuer implements CommandIssuer {
         source.sendMessage(ACFVelocityUtil.color(message));
     }
 
+    @Override
+    public void sendMessagesInternal(List<String> lines) {
+        TextComponent.Builder message = Component.text();
+        for (int i = 0; i < lines.size(); i++) {
+            if (i > 0) {
+                message.append(Component.newline());
+            }
+            message.append(ACFVelocityUtil.color(lines.get(i)));
+        }
+        source.sendMessage(message.build());
+    }
+
     @Override
     public boolean hasPermission(String name) {
         return source.hasPermission(name);
@@ -24,12 +24,14 @@
 package co.aikar.commands;
 
 import co.aikar.commands.apachecommonslang.ApacheCommonsExceptionUtil;
+import co.aikar.locales.MessageKeyProvider;
 import com.velocitypowered.api.command.CommandMeta;
 import com.velocitypowered.api.command.CommandSource;
 import com.velocitypowered.api.plugin.Plugin;
 import com.velocitypowered.api.plugin.PluginContainer;
 import com.velocitypowered.api.proxy.Player;
 import com.velocitypowered.api.proxy.ProxyServer;
+import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -51,6 +53,7 @@ public class VelocityCommandManager extends
     protected VelocityCommandContexts contexts;
     protected VelocityCommandCompletions completions;
     protected VelocityLocales locales;
+    protected final VelocityComponentRenderer componentRenderer = new VelocityComponentRenderer(this);
 
     public VelocityCommandManager(ProxyServer proxy, Object plugin) {
         this.proxy = proxy;
@@ -149,6 +152,7 @@ public class VelocityCommandManager extends
                 registeredCommands.remove(commandName);
             }
         }
+        invalidateCommands();
     }
 
     public void unregisterCommand(VelocityRootCommand command) {
@@ -171,6 +175,26 @@ public class VelocityCommandManager extends
         return CommandSource.class.isAssignableFrom(aClass);
     }
 
+    @Override
+    public boolean isRateLimitExempt(CommandIssuer issuer) {
+        // Anything but a player is the proxy itself, like its console
+        return !issuer.isPlayer();
+    }
+
+    @Override
+    boolean sendComponentMessage(CommandIssuer issuer, MessageType type, MessageKeyProvider key, String... replacements) {
+        // Subclasses may be capturing messages through sendMessageInternal
+        if (issuer.getClass() != VelocityCommandIssuer.class) {
+            return false;
+        }
+        Component message = componentRenderer.render(issuer, type, key, replacements);
+        if (message == null) {
+            return false;
+        }
+        ((VelocityCommandIssuer) issuer).getIssuer().sendMessage(message);
+        return true;
+    }
+
     @Override
     public VelocityCommandIssuer getCommandIssuer(Object issuer) {
         if (!(issuer instanceof CommandSource)) {
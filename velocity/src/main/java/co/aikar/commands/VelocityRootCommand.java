@@ -81,18 +81,18 @@ public class VelocityRootCommand implements SimpleCommand, RootCommand {
 
     @Override
     public void execute(Invocation invocation) {
-        execute(manager.getCommandIssuer(invocation.source()), getCommandName(), invocation.arguments());
+        execute(manager.getCommandIssuer(invocation.source()), getCommandName(), manager.parseArguments(invocation.arguments()));
     }
 
 
     @Override
     public List<String> suggest(Invocation invocation) {
-        return getTabCompletions(manager.getCommandIssuer(invocation.source()), getCommandName(), invocation.arguments());
+        return completeInput(manager.getCommandIssuer(invocation.source()), getCommandName(), invocation.arguments(), false);
     }
 
     @Override
     public CompletableFuture<List<String>> suggestAsync(Invocation invocation) {
-        return CompletableFuture.completedFuture(getTabCompletions(manager.getCommandIssuer(invocation.source()), getCommandName(), invocation.arguments()));
+        return CompletableFuture.completedFuture(completeInput(manager.getCommandIssuer(invocation.source()), getCommandName(), invocation.arguments(), false));
     }
 
     @Override